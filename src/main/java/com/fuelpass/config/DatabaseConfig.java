@@ -1,13 +1,22 @@
 package com.fuelpass.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
-import org.springframework.jdbc.datasource.DriverManagerDataSource;
-
-import javax.sql.DataSource;
 
+/**
+ * Pooled DataSource configuration.
+ *
+ * Pool sizing, timeouts and leak detection are bound from spring.datasource.hikari.*.
+ * Pool metrics (active, idle, pending, acquire/usage timers) are published to the
+ * actuator MeterRegistry under the hikaricp.connections.* names.
+ */
 @Configuration
 public class DatabaseConfig {
 
@@ -22,12 +31,19 @@ public class DatabaseConfig {
 
     @Bean
     @Primary
-    public DataSource dataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource dataSource = new HikariDataSource();
         dataSource.setDriverClassName("org.postgresql.Driver");
-        dataSource.setUrl(url);
+        dataSource.setJdbcUrl(url);
         dataSource.setUsername(username);
         dataSource.setPassword(password);
+        dataSource.setPoolName("fuelpass-pool");
+
+        // Register the tracker before the pool starts; Hikari rejects it afterwards
+        meterRegistry.ifAvailable(registry ->
+                dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+
         return dataSource;
     }
-}
\ No newline at end of file
+}
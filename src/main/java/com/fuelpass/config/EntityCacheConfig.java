@@ -0,0 +1,75 @@
+package com.fuelpass.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Opt-in Hibernate second-level cache (entity-cache.enabled=true).
+ *
+ * Regions live in an in-process Caffeine JCache manager, one per node, each with its own size
+ * and time-to-live; the TTL bounds how long another node's update can stay invisible. Entities
+ * opt in with @Cache, and Hibernate statistics are enabled so the hibernate.* cache metrics
+ * are published to the actuator MeterRegistry.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "entity-cache", name = "enabled", havingValue = "true")
+public class EntityCacheConfig {
+
+    public static final String USERS_REGION = "users";
+    public static final String USERS_BY_EMAIL_REGION = "users-by-email";
+    public static final String FUEL_ORDERS_REGION = "fuel-orders";
+
+    @Value("${entity-cache.users.max-size:10000}")
+    private long usersMaxSize;
+
+    @Value("${entity-cache.users.ttl:PT10M}")
+    private Duration usersTtl;
+
+    @Value("${entity-cache.fuel-orders.max-size:50000}")
+    private long fuelOrdersMaxSize;
+
+    @Value("${entity-cache.fuel-orders.ttl:PT2M}")
+    private Duration fuelOrdersTtl;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("fuelpass-entity-cache"), getClass().getClassLoader());
+
+        cacheManager.createCache(USERS_REGION, regionConfiguration(usersMaxSize, usersTtl));
+        cacheManager.createCache(USERS_BY_EMAIL_REGION, regionConfiguration(usersMaxSize, usersTtl));
+        cacheManager.createCache(FUEL_ORDERS_REGION, regionConfiguration(fuelOrdersMaxSize, fuelOrdersTtl));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheProperties(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put("hibernate.cache.use_second_level_cache", true);
+            properties.put("hibernate.cache.region.factory_class", "jcache");
+            properties.put("hibernate.javax.cache.cache_manager", entityCacheManager);
+            // Regions are created above; anything else is a mapping mistake worth seeing in the log
+            properties.put("hibernate.javax.cache.missing_cache_strategy", "create-warn");
+            properties.put("hibernate.generate_statistics", true);
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(long maxSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
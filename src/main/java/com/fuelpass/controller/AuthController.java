@@ -3,11 +3,16 @@ package com.fuelpass.controller;
 import com.fuelpass.dto.request.LoginRequest;
 import com.fuelpass.dto.response.ApiResponse;
 import com.fuelpass.dto.response.AuthResponse;
+import com.fuelpass.exception.ServiceUnavailableException;
+import com.fuelpass.security.JwtUtil;
+import com.fuelpass.security.LoginRateLimiter;
 import com.fuelpass.service.AuthService;
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -20,9 +25,20 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest request,
+                                                           HttpServletRequest httpRequest,
                                                            HttpServletResponse response) {
+        // Throttle before any lookup or password hashing happens; the remote address is the
+        // client's own, resolved from X-Forwarded-For when the request came through a trusted proxy
+        long retryAfter = loginRateLimiter.tryAcquireForLogin(httpRequest.getRemoteAddr(), request.getEmail());
+        if (retryAfter > 0) {
+            return tooManyRequests("Login failed: too many attempts, please retry later", retryAfter);
+        }
+
         try {
             AuthResponse authResponse = authService.login(request);
 
@@ -43,6 +59,10 @@ public class AuthController {
             response.addCookie(refreshCookie);
 
             return ResponseEntity.ok(ApiResponse.success("Login successful", authResponse));
+        } catch (ServiceUnavailableException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(ApiResponse.error("Login failed: " + e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(ApiResponse.error("Login failed: " + e.getMessage()));
@@ -50,8 +70,14 @@ public class AuthController {
     }
 
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<String>> logout(HttpServletResponse response) {
+    public ResponseEntity<ApiResponse<String>> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+                                                      @CookieValue(value = "jwt-token", required = false) String jwtToken,
+                                                      @CookieValue(value = "refresh-token", required = false) String refreshToken,
+                                                      HttpServletResponse response) {
         try {
+            // Same sources JwtRequestFilter authenticates from
+            authService.logout(JwtUtil.resolveBearerToken(authorization), jwtToken, refreshToken);
+
             // Clear JWT token cookie
             Cookie jwtCookie = new Cookie("jwt-token", "");
             jwtCookie.setHttpOnly(true);
@@ -77,7 +103,13 @@ public class AuthController {
 
     @PostMapping("/refresh")
     public ResponseEntity<ApiResponse<AuthResponse>> refreshToken(@CookieValue(value = "refresh-token", required = false) String refreshToken,
+                                                                  HttpServletRequest httpRequest,
                                                                   HttpServletResponse response) {
+        long retryAfter = loginRateLimiter.tryAcquireForIp(httpRequest.getRemoteAddr());
+        if (retryAfter > 0) {
+            return tooManyRequests("Token refresh failed: too many attempts, please retry later", retryAfter);
+        }
+
         try {
             if (refreshToken == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
@@ -100,4 +132,10 @@ public class AuthController {
                     .body(ApiResponse.error("Token refresh failed: " + e.getMessage()));
         }
     }
+
+    private <T> ResponseEntity<ApiResponse<T>> tooManyRequests(String message, long retryAfterSeconds) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ApiResponse.error(message));
+    }
 }
\ No newline at end of file
@@ -1,24 +1,54 @@
 package com.fuelpass.controller;
 
 import com.fuelpass.dto.response.ApiResponse;
+import com.fuelpass.dto.request.BulkUpdateOrderStatusRequest;
+import com.fuelpass.dto.request.CreateFuelOrderBatchRequest;
 import com.fuelpass.dto.request.CreateFuelOrderRequest;
 import com.fuelpass.dto.request.UpdateOrderStatusRequest;
+import com.fuelpass.dto.response.BatchItemResult;
+import com.fuelpass.dto.response.CursorPage;
+import com.fuelpass.dto.response.FuelOrderView;
+import com.fuelpass.dto.response.ImportResult;
+import com.fuelpass.dto.response.OrderStatistics;
 import com.fuelpass.entity.FuelOrder;
 import com.fuelpass.entity.OrderStatus;
-import com.fuelpass.entity.User;
-import com.fuelpass.service.AuthService;
+import com.fuelpass.entity.UserRole;
+import com.fuelpass.exception.ResourceNotFoundException;
+import com.fuelpass.repository.FuelOrderSpecifications;
+import com.fuelpass.security.AuthenticatedUser;
+import com.fuelpass.service.FuelOrderExportService;
+import com.fuelpass.service.FuelOrderImportService;
 import com.fuelpass.service.FuelOrderService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 
 /**
  * Controller for fuel order endpoints
@@ -28,25 +58,28 @@ import java.util.UUID;
 @CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"}, allowCredentials = "true")
 public class FuelOrderController {
 
+    private static final String PAGE_MODE = "page";
+    private static final String CURSOR_MODE = "cursor";
+    private static final String EXPORT_SLOT_INTERCEPTOR = FuelOrderController.class.getName() + ".exportSlot";
+
     @Autowired
     private FuelOrderService fuelOrderService;
 
     @Autowired
-    private AuthService authService;
+    private FuelOrderExportService fuelOrderExportService;
+
+    @Autowired
+    private FuelOrderImportService fuelOrderImportService;
 
     /**
      * Create a new fuel order
      */
     @PostMapping
     public ResponseEntity<ApiResponse<FuelOrder>> createOrder(@Valid @RequestBody CreateFuelOrderRequest request,
-                                                              Authentication authentication) {
+                                                              AuthenticatedUser currentUser) {
         try {
-            // Get current user
-            System.out.println("FuelOrderController.createOrder" + authentication.getName());
-            User currentUser = getCurrentUser(authentication);
-
             // Create the order
-            FuelOrder newOrder = fuelOrderService.createOrder(request, currentUser);
+            FuelOrder newOrder = fuelOrderService.createOrder(request, currentUser.getId());
 
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(ApiResponse.success("Fuel order created successfully", newOrder));
@@ -56,6 +89,68 @@ public class FuelOrderController {
         }
     }
 
+    /**
+     * Create several fuel orders in one transaction; the response reports the outcome of each item
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<BatchItemResult>>> createOrders(@Valid @RequestBody CreateFuelOrderBatchRequest request,
+                                                                          AuthenticatedUser currentUser) {
+        try {
+            List<BatchItemResult> results = fuelOrderService.createOrders(request.getOrders(), currentUser.getId());
+            long created = results.stream().filter(BatchItemResult::isSuccess).count();
+
+            if (created == 0) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(new ApiResponse<>(false, "No fuel orders were created", results));
+            }
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(ApiResponse.success(created + " of " + results.size() + " fuel orders created", results));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Failed to create fuel orders: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Import historical fuel orders for a user from a CSV request body (Operations Manager only)
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ApiResponse<ImportResult>> importOrders(@RequestParam UUID createdById,
+                                                                  InputStream body,
+                                                                  AuthenticatedUser currentUser) {
+        try {
+            // Check if user is operations manager
+            if (!currentUser.hasRole(UserRole.OPERATIONS_MANAGER)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ApiResponse.error("Only operations managers can import orders"));
+            }
+
+            // Spooled so partitions can be created from a first pass, before the import transaction opens
+            Path upload = Files.createTempFile("fuel-orders-import", ".csv");
+            ImportResult result;
+            try {
+                Files.copy(body, upload, StandardCopyOption.REPLACE_EXISTING);
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(upload), StandardCharsets.UTF_8))) {
+                    fuelOrderImportService.createPartitionsFor(reader);
+                }
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(upload), StandardCharsets.UTF_8))) {
+                    result = fuelOrderImportService.importOrders(reader, createdById);
+                }
+            } finally {
+                Files.deleteIfExists(upload);
+            }
+
+            return ResponseEntity.ok(ApiResponse.success(result.getImportedRows() + " fuel orders imported, "
+                    + result.getRejectedRows() + " rows rejected", result));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Failed to import fuel orders: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/debug")
     public ResponseEntity<ApiResponse<Map<String, Object>>> debugAuth(Authentication authentication) {
         Map<String, Object> debugInfo = new HashMap<>();
@@ -70,50 +165,112 @@ public class FuelOrderController {
      * Get all fuel orders with pagination and filters
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<FuelOrder>>> getOrders(
+    public ResponseEntity<ApiResponse<?>> getOrders(
             @RequestParam(required = false) String airportIcaoCode,
             @RequestParam(required = false) OrderStatus status,
             @RequestParam(required = false) String tailNumber,
+            @RequestParam(defaultValue = "contains") String tailNumberMatch,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "desc") String sortOrder,
-            Authentication authentication) {
+            @RequestParam(defaultValue = PAGE_MODE) String pagination,
+            @RequestParam(required = false) String cursor,
+            AuthenticatedUser currentUser) {
 
         try {
-            // Get current user
-            User currentUser = getCurrentUser(authentication);
-
             // For aircraft operators, only show their own orders
             // For operations managers, show all orders
-            User filterUser = currentUser.getRole().name().equals("AIRCRAFT_OPERATOR") ? currentUser : null;
+            UUID filterUserId = currentUser.hasRole(UserRole.AIRCRAFT_OPERATOR) ? currentUser.getId() : null;
+            // "prefix" is the index-friendly autocomplete mode; anything else is a substring match
+            boolean tailNumberPrefix = "prefix".equalsIgnoreCase(tailNumberMatch);
+
+            if (isCursorMode(pagination, cursor)) {
+                CursorPage<FuelOrderView> orders = fuelOrderService.getOrdersByCursor(
+                        airportIcaoCode, status, tailNumber, tailNumberPrefix, filterUserId, cursor, size, sortOrder
+                );
+                return ResponseEntity.ok(ApiResponse.success("Orders retrieved successfully", orders));
+            }
 
-            Page<FuelOrder> orders = fuelOrderService.getOrders(
-                    airportIcaoCode, status, tailNumber, filterUser, page, size, sortBy, sortOrder
+            Page<FuelOrderView> orders = fuelOrderService.getOrders(
+                    airportIcaoCode, status, tailNumber, tailNumberPrefix, filterUserId, page, size, sortBy, sortOrder
             );
 
             return ResponseEntity.ok(ApiResponse.success("Orders retrieved successfully", orders));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Invalid request: " + e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("Failed to retrieve orders: " + e.getMessage()));
         }
     }
 
+    /**
+     * Export fuel orders matching the list filters as CSV or NDJSON, streamed row by row.
+     * Unsupported formats or sort orders are rejected with 400 and a full export pool with 503,
+     * both through GlobalExceptionHandler before the response is started.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(required = false) String airportIcaoCode,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) String tailNumber,
+            @RequestParam(defaultValue = "contains") String tailNumberMatch,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "desc") String sortOrder,
+            AuthenticatedUser currentUser,
+            HttpServletRequest request) {
+
+        FuelOrderExportService.Format exportFormat = FuelOrderExportService.Format.of(format);
+        Sort.Direction direction = Sort.Direction.fromString(sortOrder);
+
+        // Same visibility rules as the list endpoint
+        UUID filterUserId = currentUser.hasRole(UserRole.AIRCRAFT_OPERATOR) ? currentUser.getId() : null;
+        boolean tailNumberPrefix = "prefix".equalsIgnoreCase(tailNumberMatch);
+        Specification<FuelOrder> spec = FuelOrderSpecifications.withFilters(
+                airportIcaoCode, status, tailNumber, tailNumberPrefix, filterUserId);
+
+        FuelOrderExportService.ExportSlot slot = fuelOrderExportService.reserveSlot();
+        // Runs when async processing ends for any reason, including a timeout or error before the body started
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_SLOT_INTERCEPTOR,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                        slot.release();
+                    }
+                });
+
+        // Written on an async request thread once the headers are sent; errors from here on abort the response
+        StreamingResponseBody body = out -> {
+            try {
+                fuelOrderExportService.export(spec, direction, exportFormat, out);
+            } finally {
+                slot.release();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("fuel-orders." + exportFormat.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     /**
      * Get fuel order by ID
      */
     @GetMapping("/{orderId}")
     public ResponseEntity<ApiResponse<FuelOrder>> getOrderById(@PathVariable UUID orderId,
-                                                               Authentication authentication) {
+                                                               AuthenticatedUser currentUser) {
         try {
-            // Get current user
-            User currentUser = getCurrentUser(authentication);
-
             // Get the order
             FuelOrder order = fuelOrderService.getOrderById(orderId);
 
             // Check if user has access to this order
-            if (currentUser.getRole().name().equals("AIRCRAFT_OPERATOR") &&
+            if (currentUser.hasRole(UserRole.AIRCRAFT_OPERATOR) &&
                     !order.getCreatedBy().getId().equals(currentUser.getId())) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                         .body(ApiResponse.error("Access denied to this order"));
@@ -132,50 +289,68 @@ public class FuelOrderController {
     @PatchMapping("/{orderId}/status")
     public ResponseEntity<ApiResponse<FuelOrder>> updateOrderStatus(@PathVariable UUID orderId,
                                                                     @Valid @RequestBody UpdateOrderStatusRequest request,
-                                                                    Authentication authentication) {
+                                                                    AuthenticatedUser currentUser) {
         try {
-            // Get current user
-            User currentUser = getCurrentUser(authentication);
-
             // Check if user is operations manager
-            if (!currentUser.getRole().name().equals("OPERATIONS_MANAGER")) {
+            if (!currentUser.hasRole(UserRole.OPERATIONS_MANAGER)) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                         .body(ApiResponse.error("Only operations managers can update order status"));
             }
 
             // Update the order status
-            FuelOrder updatedOrder = fuelOrderService.updateOrderStatus(orderId, request, currentUser);
+            FuelOrder updatedOrder = fuelOrderService.updateOrderStatus(orderId, request);
 
             return ResponseEntity.ok(ApiResponse.success("Order status updated successfully", updatedOrder));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(ApiResponse.error(e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(ApiResponse.error("Failed to update order status: " + e.getMessage()));
         }
     }
 
+    /**
+     * Update the status of several fuel orders at once (Operations Manager only)
+     */
+    @PatchMapping("/status")
+    public ResponseEntity<ApiResponse<List<BatchItemResult>>> updateOrderStatuses(@Valid @RequestBody BulkUpdateOrderStatusRequest request,
+                                                                                 AuthenticatedUser currentUser) {
+        try {
+            // Check if user is operations manager
+            if (!currentUser.hasRole(UserRole.OPERATIONS_MANAGER)) {
+                return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                        .body(ApiResponse.error("Only operations managers can update order status"));
+            }
+
+            List<BatchItemResult> results = fuelOrderService.updateOrderStatuses(
+                    request.getOrderIds(), request.getNewStatus());
+            long updated = results.stream().filter(BatchItemResult::isSuccess).count();
+
+            return ResponseEntity.ok(ApiResponse.success(updated + " of " + results.size() + " orders updated", results));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Failed to update order statuses: " + e.getMessage()));
+        }
+    }
+
     /**
      * Get order statistics (Operations Manager only)
      */
     @GetMapping("/statistics")
-    public ResponseEntity<ApiResponse<Map<String, Long>>> getOrderStatistics(Authentication authentication) {
+    public ResponseEntity<ApiResponse<OrderStatistics>> getOrderStatistics(AuthenticatedUser currentUser) {
         try {
-            // Get current user
-            System.out.println("FuelOrderController.getOrderStatistics" + authentication.getName() + " --- "+ authentication);
-            User currentUser = getCurrentUser(authentication);
-
             // Check if user is operations manager
-            if (!currentUser.getRole().name().equals("OPERATIONS_MANAGER")) {
+            if (!currentUser.hasRole(UserRole.OPERATIONS_MANAGER)) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                         .body(ApiResponse.error("Only operations managers can view statistics"));
             }
 
             // Get statistics
-            Map<String, Long> statistics = fuelOrderService.getOrderStatistics();
+            OrderStatistics statistics = fuelOrderService.getOrderStatistics();
 
             return ResponseEntity.ok(ApiResponse.success("Statistics retrieved successfully", statistics));
         } catch (Exception e) {
-            System.out.println("FuelOrderController.getOrderStatistics catch bloack" + " --- "+ authentication);
-
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("Failed to retrieve statistics: " + e.getMessage()));
         }
@@ -185,27 +360,34 @@ public class FuelOrderController {
      * Get orders by current user (Aircraft Operator only)
      */
     @GetMapping("/my-orders")
-    public ResponseEntity<ApiResponse<Page<FuelOrder>>> getMyOrders(
+    public ResponseEntity<ApiResponse<?>> getMyOrders(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "desc") String sortOrder,
-            Authentication authentication) {
+            @RequestParam(defaultValue = PAGE_MODE) String pagination,
+            @RequestParam(required = false) String cursor,
+            AuthenticatedUser currentUser) {
 
         try {
-            // Get current user
-            User currentUser = getCurrentUser(authentication);
-
             // Check if user is aircraft operator
-            if (!currentUser.getRole().name().equals("AIRCRAFT_OPERATOR")) {
+            if (!currentUser.hasRole(UserRole.AIRCRAFT_OPERATOR)) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                         .body(ApiResponse.error("Only aircraft operators can view their orders"));
             }
 
+            if (isCursorMode(pagination, cursor)) {
+                CursorPage<FuelOrderView> orders = fuelOrderService.getOrdersByUserCursor(currentUser.getId(), cursor, size, sortOrder);
+                return ResponseEntity.ok(ApiResponse.success("Orders retrieved successfully", orders));
+            }
+
             // Get user's orders
-            Page<FuelOrder> orders = fuelOrderService.getOrdersByUser(currentUser, page, size, sortBy, sortOrder);
+            Page<FuelOrderView> orders = fuelOrderService.getOrdersByUser(currentUser.getId(), page, size, sortBy, sortOrder);
 
             return ResponseEntity.ok(ApiResponse.success("Orders retrieved successfully", orders));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Invalid request: " + e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("Failed to retrieve orders: " + e.getMessage()));
@@ -216,27 +398,27 @@ public class FuelOrderController {
      * Get orders by status (Operations Manager only)
      */
     @GetMapping("/status/{status}")
-    public ResponseEntity<ApiResponse<Page<FuelOrder>>> getOrdersByStatus(@PathVariable OrderStatus status,
+    public ResponseEntity<ApiResponse<Page<FuelOrderView>>> getOrdersByStatus(@PathVariable OrderStatus status,
                                                                           @RequestParam(defaultValue = "0") int page,
                                                                           @RequestParam(defaultValue = "10") int size,
                                                                           @RequestParam(defaultValue = "createdAt") String sortBy,
                                                                           @RequestParam(defaultValue = "desc") String sortOrder,
-                                                                          Authentication authentication) {
+                                                                          AuthenticatedUser currentUser) {
 
         try {
-            // Get current user
-            User currentUser = getCurrentUser(authentication);
-
             // Check if user is operations manager
-            if (!currentUser.getRole().name().equals("OPERATIONS_MANAGER")) {
+            if (!currentUser.hasRole(UserRole.OPERATIONS_MANAGER)) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                         .body(ApiResponse.error("Only operations managers can filter by status"));
             }
 
             // Get orders by status
-            Page<FuelOrder> orders = fuelOrderService.getOrdersByStatus(status, page, size, sortBy, sortOrder);
+            Page<FuelOrderView> orders = fuelOrderService.getOrdersByStatus(status, page, size, sortBy, sortOrder);
 
             return ResponseEntity.ok(ApiResponse.success("Orders retrieved successfully", orders));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Invalid request: " + e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("Failed to retrieve orders: " + e.getMessage()));
@@ -247,27 +429,27 @@ public class FuelOrderController {
      * Get orders by airport (Operations Manager only)
      */
     @GetMapping("/airport/{airportIcaoCode}")
-    public ResponseEntity<ApiResponse<Page<FuelOrder>>> getOrdersByAirport(@PathVariable String airportIcaoCode,
+    public ResponseEntity<ApiResponse<Page<FuelOrderView>>> getOrdersByAirport(@PathVariable String airportIcaoCode,
                                                                            @RequestParam(defaultValue = "0") int page,
                                                                            @RequestParam(defaultValue = "10") int size,
                                                                            @RequestParam(defaultValue = "createdAt") String sortBy,
                                                                            @RequestParam(defaultValue = "desc") String sortOrder,
-                                                                           Authentication authentication) {
+                                                                           AuthenticatedUser currentUser) {
 
         try {
-            // Get current user
-            User currentUser = getCurrentUser(authentication);
-
             // Check if user is operations manager
-            if (!currentUser.getRole().name().equals("OPERATIONS_MANAGER")) {
+            if (!currentUser.hasRole(UserRole.OPERATIONS_MANAGER)) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                         .body(ApiResponse.error("Only operations managers can filter by airport"));
             }
 
             // Get orders by airport
-            Page<FuelOrder> orders = fuelOrderService.getOrdersByAirport(airportIcaoCode, page, size, sortBy, sortOrder);
+            Page<FuelOrderView> orders = fuelOrderService.getOrdersByAirport(airportIcaoCode, page, size, sortBy, sortOrder);
 
             return ResponseEntity.ok(ApiResponse.success("Orders retrieved successfully", orders));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(ApiResponse.error("Invalid request: " + e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.error("Failed to retrieve orders: " + e.getMessage()));
@@ -275,14 +457,10 @@ public class FuelOrderController {
     }
 
     /**
-     * Helper method to get current user from authentication
+     * Cursor (keyset) mode is used when requested explicitly or when a cursor is supplied;
+     * it always orders by creation time and ignores page and sortBy
      */
-    private User getCurrentUser(Authentication authentication) {
-        String email = authentication.getName();
-        if(email == null) {
-            email = "";
-        }
-        return authService.getUserByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    private boolean isCursorMode(String pagination, String cursor) {
+        return CURSOR_MODE.equalsIgnoreCase(pagination) || (cursor != null && !cursor.isBlank());
     }
-}
\ No newline at end of file
+}
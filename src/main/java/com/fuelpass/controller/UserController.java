@@ -40,6 +40,27 @@ public class UserController {
         }
     }
 
+    /**
+     * Search users by email (Operations Manager only); match=prefix is the autocomplete fast path
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('OPERATIONS_MANAGER')")
+    public ResponseEntity<ApiResponse<List<User>>> searchUsers(@RequestParam String email,
+                                                               @RequestParam(defaultValue = "contains") String match,
+                                                               @RequestParam(defaultValue = "20") int limit) {
+        try {
+            if (email.isBlank() || limit < 1 || limit > 100) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(ApiResponse.error("Search requires an email fragment and a limit between 1 and 100"));
+            }
+            List<User> users = userService.searchUsersByEmail(email, "prefix".equalsIgnoreCase(match), limit);
+            return ResponseEntity.ok(ApiResponse.success("Users retrieved successfully", users));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(ApiResponse.error("Failed to search users: " + e.getMessage()));
+        }
+    }
+
     /**
      * Get user by ID
      */
@@ -132,8 +153,6 @@ public class UserController {
     @PreAuthorize("hasRole('OPERATIONS_MANAGER')")
     public ResponseEntity<ApiResponse<UserService.UserStatistics>> getUserStatistics() {
         try {
-            System.out.println("USercontroller.getOrderStatistics" + userService.getUserStatistics() + " --- "+ userService);
-
             UserService.UserStatistics statistics = userService.getUserStatistics();
             return ResponseEntity.ok(ApiResponse.success("Statistics retrieved successfully", statistics));
         } catch (Exception e) {
@@ -0,0 +1,35 @@
+package com.fuelpass.dto.request;
+
+import com.fuelpass.entity.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for moving several fuel orders to the same status
+ */
+public class BulkUpdateOrderStatusRequest {
+
+    @NotEmpty(message = "At least one order id is required")
+    private List<@NotNull(message = "Order id is required") UUID> orderIds;
+
+    @NotNull(message = "New status is required")
+    private OrderStatus newStatus;
+
+    // Constructors
+    public BulkUpdateOrderStatusRequest() {}
+
+    public BulkUpdateOrderStatusRequest(List<UUID> orderIds, OrderStatus newStatus) {
+        this.orderIds = orderIds;
+        this.newStatus = newStatus;
+    }
+
+    // Getters and Setters
+    public List<UUID> getOrderIds() { return orderIds; }
+    public void setOrderIds(List<UUID> orderIds) { this.orderIds = orderIds; }
+
+    public OrderStatus getNewStatus() { return newStatus; }
+    public void setNewStatus(OrderStatus newStatus) { this.newStatus = newStatus; }
+}
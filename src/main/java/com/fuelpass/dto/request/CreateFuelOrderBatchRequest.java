@@ -0,0 +1,26 @@
+package com.fuelpass.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * DTO for creating several fuel orders in one request.
+ * Items are validated individually so one invalid order does not reject the others.
+ */
+public class CreateFuelOrderBatchRequest {
+
+    @NotEmpty(message = "At least one order is required")
+    private List<CreateFuelOrderRequest> orders;
+
+    // Constructors
+    public CreateFuelOrderBatchRequest() {}
+
+    public CreateFuelOrderBatchRequest(List<CreateFuelOrderRequest> orders) {
+        this.orders = orders;
+    }
+
+    // Getters and Setters
+    public List<CreateFuelOrderRequest> getOrders() { return orders; }
+    public void setOrders(List<CreateFuelOrderRequest> orders) { this.orders = orders; }
+}
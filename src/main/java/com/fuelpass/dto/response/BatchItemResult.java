@@ -0,0 +1,68 @@
+package com.fuelpass.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fuelpass.entity.OrderStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of one item in a batch request
+ */
+public class BatchItemResult {
+
+    private int index;
+    private UUID orderId;
+    private boolean success;
+    private OrderStatus status;
+    private List<String> errors;
+
+    /** Line number in the source file, for rows read from CSV */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer line;
+
+    // Constructors
+    public BatchItemResult() {}
+
+    public BatchItemResult(int index, UUID orderId, boolean success, OrderStatus status, List<String> errors) {
+        this.index = index;
+        this.orderId = orderId;
+        this.success = success;
+        this.status = status;
+        this.errors = errors;
+    }
+
+    // Static factory methods
+    public static BatchItemResult success(int index, UUID orderId, OrderStatus status) {
+        return new BatchItemResult(index, orderId, true, status, null);
+    }
+
+    public static BatchItemResult failure(int index, UUID orderId, List<String> errors) {
+        return new BatchItemResult(index, orderId, false, null, errors);
+    }
+
+    public static BatchItemResult rejectedLine(int index, int line, List<String> errors) {
+        BatchItemResult result = failure(index, null, errors);
+        result.setLine(line);
+        return result;
+    }
+
+    // Getters and Setters
+    public int getIndex() { return index; }
+    public void setIndex(int index) { this.index = index; }
+
+    public UUID getOrderId() { return orderId; }
+    public void setOrderId(UUID orderId) { this.orderId = orderId; }
+
+    public boolean isSuccess() { return success; }
+    public void setSuccess(boolean success) { this.success = success; }
+
+    public OrderStatus getStatus() { return status; }
+    public void setStatus(OrderStatus status) { this.status = status; }
+
+    public List<String> getErrors() { return errors; }
+    public void setErrors(List<String> errors) { this.errors = errors; }
+
+    public Integer getLine() { return line; }
+    public void setLine(Integer line) { this.line = line; }
+}
@@ -0,0 +1,84 @@
+package com.fuelpass.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fuelpass.entity.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a fuel order for listings.
+ * Selected column by column, so no entity is loaded or tracked for dirty checking.
+ */
+public class FuelOrderView {
+
+    private UUID id;
+    private String tailNumber;
+    private String airportIcaoCode;
+    private Double requestedFuelVolume;
+    private LocalDateTime deliveryTimeWindowStart;
+    private LocalDateTime deliveryTimeWindowEnd;
+    private OrderStatus status;
+    private String notes;
+    @JsonIgnore
+    private UUID createdById;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public FuelOrderView() {}
+
+    /**
+     * Argument order matches the select list built in FuelOrderRepositoryImpl
+     */
+    public FuelOrderView(UUID id, String tailNumber, String airportIcaoCode, Double requestedFuelVolume,
+                         LocalDateTime deliveryTimeWindowStart, LocalDateTime deliveryTimeWindowEnd,
+                         OrderStatus status, String notes, UUID createdById,
+                         LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.tailNumber = tailNumber;
+        this.airportIcaoCode = airportIcaoCode;
+        this.requestedFuelVolume = requestedFuelVolume;
+        this.deliveryTimeWindowStart = deliveryTimeWindowStart;
+        this.deliveryTimeWindowEnd = deliveryTimeWindowEnd;
+        this.status = status;
+        this.notes = notes;
+        this.createdById = createdById;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters and Setters
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public String getTailNumber() { return tailNumber; }
+    public void setTailNumber(String tailNumber) { this.tailNumber = tailNumber; }
+
+    public String getAirportIcaoCode() { return airportIcaoCode; }
+    public void setAirportIcaoCode(String airportIcaoCode) { this.airportIcaoCode = airportIcaoCode; }
+
+    public Double getRequestedFuelVolume() { return requestedFuelVolume; }
+    public void setRequestedFuelVolume(Double requestedFuelVolume) { this.requestedFuelVolume = requestedFuelVolume; }
+
+    public LocalDateTime getDeliveryTimeWindowStart() { return deliveryTimeWindowStart; }
+    public void setDeliveryTimeWindowStart(LocalDateTime deliveryTimeWindowStart) { this.deliveryTimeWindowStart = deliveryTimeWindowStart; }
+
+    public LocalDateTime getDeliveryTimeWindowEnd() { return deliveryTimeWindowEnd; }
+    public void setDeliveryTimeWindowEnd(LocalDateTime deliveryTimeWindowEnd) { this.deliveryTimeWindowEnd = deliveryTimeWindowEnd; }
+
+    public OrderStatus getStatus() { return status; }
+    public void setStatus(OrderStatus status) { this.status = status; }
+
+    public String getNotes() { return notes; }
+    public void setNotes(String notes) { this.notes = notes; }
+
+    public UUID getCreatedById() { return createdById; }
+    public void setCreatedById(UUID createdById) { this.createdById = createdById; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,33 @@
+package com.fuelpass.dto.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk fuel order import.
+ * Rejected rows are identified by their line in the uploaded file; only the first
+ * rows up to the configured limit are listed, the counts always cover every row.
+ */
+public class ImportResult {
+
+    private long importedRows;
+    private long rejectedRows;
+    private List<BatchItemResult> rejected = new ArrayList<>();
+    private boolean rejectedTruncated;
+
+    // Constructors
+    public ImportResult() {}
+
+    // Getters and Setters
+    public long getImportedRows() { return importedRows; }
+    public void setImportedRows(long importedRows) { this.importedRows = importedRows; }
+
+    public long getRejectedRows() { return rejectedRows; }
+    public void setRejectedRows(long rejectedRows) { this.rejectedRows = rejectedRows; }
+
+    public List<BatchItemResult> getRejected() { return rejected; }
+    public void setRejected(List<BatchItemResult> rejected) { this.rejected = rejected; }
+
+    public boolean isRejectedTruncated() { return rejectedTruncated; }
+    public void setRejectedTruncated(boolean rejectedTruncated) { this.rejectedTruncated = rejectedTruncated; }
+}
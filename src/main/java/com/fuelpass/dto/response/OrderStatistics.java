@@ -0,0 +1,60 @@
+package com.fuelpass.dto.response;
+
+import com.fuelpass.entity.OrderStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Order counts by status and by airport, assembled from (airport, status, count) rows
+ */
+public class OrderStatistics {
+
+    private long totalOrders;
+    private long pendingOrders;
+    private long confirmedOrders;
+    private long completedOrders;
+    private long cancelledOrders;
+    private Map<String, Map<OrderStatus, Long>> ordersByAirport = new TreeMap<>();
+
+    // Constructors
+    public OrderStatistics() {}
+
+    /**
+     * Add the count of orders at one airport in one status
+     */
+    public void addCount(String airportIcaoCode, OrderStatus status, long count) {
+        if (count == 0) {
+            return;
+        }
+        totalOrders += count;
+        switch (status) {
+            case PENDING -> pendingOrders += count;
+            case CONFIRMED -> confirmedOrders += count;
+            case COMPLETED -> completedOrders += count;
+            case CANCELLED -> cancelledOrders += count;
+        }
+        ordersByAirport.computeIfAbsent(airportIcaoCode, airport -> new EnumMap<>(OrderStatus.class))
+                .merge(status, count, Long::sum);
+    }
+
+    // Getters and Setters
+    public long getTotalOrders() { return totalOrders; }
+    public void setTotalOrders(long totalOrders) { this.totalOrders = totalOrders; }
+
+    public long getPendingOrders() { return pendingOrders; }
+    public void setPendingOrders(long pendingOrders) { this.pendingOrders = pendingOrders; }
+
+    public long getConfirmedOrders() { return confirmedOrders; }
+    public void setConfirmedOrders(long confirmedOrders) { this.confirmedOrders = confirmedOrders; }
+
+    public long getCompletedOrders() { return completedOrders; }
+    public void setCompletedOrders(long completedOrders) { this.completedOrders = completedOrders; }
+
+    public long getCancelledOrders() { return cancelledOrders; }
+    public void setCancelledOrders(long cancelledOrders) { this.cancelledOrders = cancelledOrders; }
+
+    public Map<String, Map<OrderStatus, Long>> getOrdersByAirport() { return ordersByAirport; }
+    public void setOrdersByAirport(Map<String, Map<OrderStatus, Long>> ordersByAirport) { this.ordersByAirport = ordersByAirport; }
+}
@@ -3,6 +3,8 @@ package com.fuelpass.entity;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -11,19 +13,31 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
- * Fuel Order entity representing fuel delivery requests
+ * Fuel Order entity representing fuel delivery requests.
+ * The table is range-partitioned by month on created_at, so created_at is never updated.
  */
 @Entity
 @Table(name = "fuel_orders", indexes = {
         @Index(name = "idx_fuel_order_tail_number", columnList = "tailNumber"),
-        @Index(name = "idx_fuel_order_airport", columnList = "airportIcaoCode"),
-        @Index(name = "idx_fuel_order_status", columnList = "status"),
-        @Index(name = "idx_fuel_order_created_by", columnList = "createdBy"),
-        @Index(name = "idx_fuel_order_created_at", columnList = "createdAt")
+        @Index(name = "idx_fuel_order_created_at", columnList = "createdAt"),
+        @Index(name = "idx_fuel_order_created_by_created_at", columnList = "createdBy, createdAt DESC, id DESC"),
+        @Index(name = "idx_fuel_order_airport_status_created_at", columnList = "airportIcaoCode, status, createdAt DESC"),
+        @Index(name = "idx_fuel_order_status_created_at", columnList = "status, createdAt DESC"),
+        @Index(name = "idx_fuel_order_delivery_window", columnList = "deliveryTimeWindowStart, deliveryTimeWindowEnd")
 })
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "fuel-orders")
+@SqlResultSetMapping(name = FuelOrder.STATUS_TRANSITION_MAPPING,
+        entities = @EntityResult(entityClass = FuelOrder.class),
+        columns = @ColumnResult(name = "previous_status", type = String.class))
 public class FuelOrder {
 
+    /**
+     * Maps a returned fuel_orders row plus its previous_status column
+     */
+    public static final String STATUS_TRANSITION_MAPPING = "FuelOrder.statusTransition";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -75,6 +89,11 @@ public class FuelOrder {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @JsonIgnore
+    @Column(nullable = false)
+    private Long version;
+
     // Constructors
     public FuelOrder() {}
 
@@ -123,4 +142,7 @@ public class FuelOrder {
 
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
-}
\ No newline at end of file
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+}
@@ -0,0 +1,69 @@
+package com.fuelpass.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Revocation of a single token (tokenId) or of every token issued to a user before revokedAt (userId).
+ * A principalOnly row revokes nothing and only makes every node drop the user's cached principal.
+ */
+@Entity
+@Table(name = "token_revocations", indexes = {
+        @Index(name = "idx_token_revocation_revoked_at", columnList = "revokedAt"),
+        @Index(name = "idx_token_revocation_expires_at", columnList = "expiresAt")
+})
+public class TokenRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(name = "token_id", length = 64)
+    private String tokenId;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    /**
+     * After this instant every token the revocation could match has expired on its own
+     */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Column(name = "principal_only", nullable = false)
+    private boolean principalOnly;
+
+    // Constructors
+    public TokenRevocation() {}
+
+    public TokenRevocation(UUID userId, String tokenId, Instant revokedAt, Instant expiresAt) {
+        this.userId = userId;
+        this.tokenId = tokenId;
+        this.revokedAt = revokedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    // Getters and Setters
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+
+    public UUID getUserId() { return userId; }
+    public void setUserId(UUID userId) { this.userId = userId; }
+
+    public String getTokenId() { return tokenId; }
+    public void setTokenId(String tokenId) { this.tokenId = tokenId; }
+
+    public Instant getRevokedAt() { return revokedAt; }
+    public void setRevokedAt(Instant revokedAt) { this.revokedAt = revokedAt; }
+
+    public Instant getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(Instant expiresAt) { this.expiresAt = expiresAt; }
+
+    public boolean isPrincipalOnly() { return principalOnly; }
+    public void setPrincipalOnly(boolean principalOnly) { this.principalOnly = principalOnly; }
+}
@@ -0,0 +1,43 @@
+package com.fuelpass.exception;
+
+/**
+ * Exception thrown when a bounded resource is saturated and the request should be retried later
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructs a new ServiceUnavailableException with the specified detail message
+     *
+     * @param message the detail message
+     * @param retryAfterSeconds suggested delay before retrying, in seconds
+     */
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Constructs a new ServiceUnavailableException with the specified detail message and cause
+     *
+     * @param message the detail message
+     * @param retryAfterSeconds suggested delay before retrying, in seconds
+     * @param cause the cause
+     */
+    public ServiceUnavailableException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Get the suggested retry delay
+     *
+     * @return seconds to wait before retrying
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
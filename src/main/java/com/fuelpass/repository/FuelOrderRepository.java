@@ -6,25 +6,38 @@ import com.fuelpass.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
- * Repository interface for FuelOrder entity operations
+ * Repository interface for FuelOrder entity operations.
+ * Filtered listings are built from {@link FuelOrderSpecifications}.
  */
 @Repository
-public interface FuelOrderRepository extends JpaRepository<FuelOrder, UUID> {
+public interface FuelOrderRepository extends JpaRepository<FuelOrder, UUID>, JpaSpecificationExecutor<FuelOrder>,
+        FuelOrderRepositoryCustom {
 
     /**
      * Find orders by created by user
      */
     Page<FuelOrder> findByCreatedBy(User createdBy, Pageable pageable);
 
+    /**
+     * Find orders by created by user id
+     */
+    Page<FuelOrder> findByCreatedById(UUID createdById, Pageable pageable);
+
     /**
      * Find orders by status
      */
@@ -74,16 +87,33 @@ public interface FuelOrderRepository extends JpaRepository<FuelOrder, UUID> {
     long countByAirportIcaoCode(String airportIcaoCode);
 
     /**
-     * Find orders with custom filters
+     * Order counts grouped by airport and status, in a single pass: rows of (airportIcaoCode, status, count)
+     */
+    @Query("SELECT fo.airportIcaoCode, fo.status, COUNT(fo) FROM FuelOrder fo GROUP BY fo.airportIcaoCode, fo.status")
+    List<Object[]> countByAirportAndStatus();
+
+    /**
+     * Current status of an order, without loading it
+     */
+    @Query("SELECT fo.status FROM FuelOrder fo WHERE fo.id = :id")
+    Optional<OrderStatus> findStatusById(@Param("id") UUID id);
+
+    /**
+     * Current statuses of the given orders as rows of (id, status); missing ids are absent
+     */
+    @Query("SELECT fo.id, fo.status FROM FuelOrder fo WHERE fo.id IN :ids")
+    List<Object[]> findStatusesByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Create any missing monthly fuel_orders partitions from the given month, or from the oldest row
+     * still in the default partition if that is earlier, through {@code monthsAhead} months after the
+     * current one. Rows in the default partition are moved into the partitions created for them.
+     * Runs in its own transaction so the partition locks are released as soon as it returns.
+     *
+     * @return the number of partitions created
      */
-    @Query("SELECT fo FROM FuelOrder fo WHERE " +
-            "(:airportIcaoCode IS NULL OR fo.airportIcaoCode = :airportIcaoCode) AND " +
-            "(:status IS NULL OR fo.status = :status) AND " +
-            "(:tailNumber IS NULL OR fo.tailNumber LIKE %:tailNumber%) AND " +
-            "(:createdBy IS NULL OR fo.createdBy = :createdBy)")
-    Page<FuelOrder> findWithFilters(@Param("airportIcaoCode") String airportIcaoCode,
-                                    @Param("status") OrderStatus status,
-                                    @Param("tailNumber") String tailNumber,
-                                    @Param("createdBy") User createdBy,
-                                    Pageable pageable);
-}
\ No newline at end of file
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query(value = "SELECT create_fuel_order_partitions(LEAST(CAST(:fromMonth AS date), "
+            + "(SELECT CAST(min(created_at) AS date) FROM fuel_orders_default)), :monthsAhead)", nativeQuery = true)
+    int createMonthlyPartitions(@Param("fromMonth") LocalDate fromMonth, @Param("monthsAhead") int monthsAhead);
+}
@@ -0,0 +1,82 @@
+package com.fuelpass.repository;
+
+import com.fuelpass.dto.response.FuelOrderView;
+import com.fuelpass.entity.FuelOrder;
+import com.fuelpass.entity.OrderStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * FuelOrder repository operations that need native SQL
+ */
+public interface FuelOrderRepositoryCustom {
+
+    /**
+     * Page of order views matching the specification; the count query is skipped when the page shows it is not needed
+     */
+    Page<FuelOrderView> findViews(Specification<FuelOrder> spec, Pageable pageable);
+
+    /**
+     * Up to {@code limit} order views matching the specification, without a count query
+     */
+    List<FuelOrderView> findViews(Specification<FuelOrder> spec, Sort sort, int limit);
+
+    /**
+     * Stream order views matching the specification from a forward-only cursor, {@code fetchSize} rows per round trip.
+     * Must be consumed and closed inside a transaction.
+     */
+    Stream<FuelOrderView> streamViews(Specification<FuelOrder> spec, Sort sort, int fetchSize);
+
+    /**
+     * Move an order to a new status in one statement, but only while its current status is one of
+     * the allowed predecessors. The row is locked, updated and returned together with its previous status.
+     *
+     * @return empty when the order does not exist or is not in an allowed status
+     */
+    Optional<StatusTransition> transitionStatus(UUID orderId, Collection<OrderStatus> fromStatuses, OrderStatus toStatus);
+
+    /**
+     * Move every listed order that is currently in {@code fromStatus} to {@code toStatus} in one statement
+     *
+     * @return airport ICAO code of each updated order, keyed by order id
+     */
+    Map<UUID, String> transitionStatuses(Collection<UUID> orderIds, OrderStatus fromStatus, OrderStatus toStatus);
+
+    /**
+     * Insert orders with the PostgreSQL COPY protocol in the current transaction, bypassing the persistence context.
+     * Every order must already have its id, createdBy, status and timestamps set.
+     *
+     * @return the number of rows copied
+     */
+    long copyOrders(List<FuelOrder> orders);
+
+    /**
+     * Drop orders from the second-level cache after they were changed by native SQL
+     */
+    void evictFromCache(Collection<UUID> orderIds);
+
+    /**
+     * Result of a conditional status update
+     */
+    class StatusTransition {
+        private final FuelOrder order;
+        private final OrderStatus previousStatus;
+
+        public StatusTransition(FuelOrder order, OrderStatus previousStatus) {
+            this.order = order;
+            this.previousStatus = previousStatus;
+        }
+
+        public FuelOrder getOrder() { return order; }
+        public OrderStatus getPreviousStatus() { return previousStatus; }
+    }
+}
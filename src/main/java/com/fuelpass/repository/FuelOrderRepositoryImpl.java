@@ -0,0 +1,218 @@
+package com.fuelpass.repository;
+
+import com.fuelpass.dto.response.FuelOrderView;
+import com.fuelpass.entity.FuelOrder;
+import com.fuelpass.entity.OrderStatus;
+import com.fuelpass.util.CsvUtil;
+import jakarta.persistence.Cache;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Native SQL implementation of {@link FuelOrderRepositoryCustom}
+ */
+public class FuelOrderRepositoryImpl implements FuelOrderRepositoryCustom {
+
+    /**
+     * Lock the row only if it is in an allowed status, update it, and return the new row plus the old status.
+     * A concurrent transition blocks on the lock and then no longer matches, so it updates nothing.
+     */
+    private static final String TRANSITION_STATUS_SQL = """
+            WITH previous AS (
+                SELECT id, status FROM fuel_orders
+                WHERE id = :orderId AND status IN (:fromStatuses)
+                FOR UPDATE
+            )
+            UPDATE fuel_orders fo
+            SET status = :toStatus, version = fo.version + 1, updated_at = :updatedAt
+            FROM previous
+            WHERE fo.id = previous.id
+            RETURNING fo.*, previous.status AS previous_status
+            """;
+
+    private static final String TRANSITION_STATUSES_SQL = """
+            UPDATE fuel_orders
+            SET status = :toStatus, version = version + 1, updated_at = :updatedAt
+            WHERE id IN (:orderIds) AND status = :fromStatus
+            RETURNING id, airport_icao_code
+            """;
+
+    private static final String COPY_ORDERS_SQL = """
+            COPY fuel_orders (id, tail_number, airport_icao_code, requested_fuel_volume,
+                              delivery_time_window_start, delivery_time_window_end, status,
+                              created_by, notes, created_at, updated_at, version)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<FuelOrderView> findViews(Specification<FuelOrder> spec, Pageable pageable) {
+        TypedQuery<FuelOrderView> query = viewQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset()).setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<FuelOrderView> findViews(Specification<FuelOrder> spec, Sort sort, int limit) {
+        return viewQuery(spec, sort).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Stream<FuelOrderView> streamViews(Specification<FuelOrder> spec, Sort sort, int fetchSize) {
+        // Without a fetch size the PostgreSQL driver buffers the whole result set before returning the first row
+        return viewQuery(spec, sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Optional<StatusTransition> transitionStatus(UUID orderId, Collection<OrderStatus> fromStatuses, OrderStatus toStatus) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(TRANSITION_STATUS_SQL, FuelOrder.STATUS_TRANSITION_MAPPING)
+                .setParameter("orderId", orderId)
+                .setParameter("fromStatuses", fromStatuses.stream().map(OrderStatus::name).toList())
+                .setParameter("toStatus", toStatus.name())
+                .setParameter("updatedAt", LocalDateTime.now())
+                // The row is not committed yet; the caller evicts it from the cache after commit
+                .setHint("jakarta.persistence.cache.storeMode", CacheStoreMode.BYPASS)
+                .getResultList();
+
+        return rows.stream()
+                .findFirst()
+                .map(row -> new StatusTransition((FuelOrder) row[0], OrderStatus.valueOf((String) row[1])));
+    }
+
+    @Override
+    public Map<UUID, String> transitionStatuses(Collection<UUID> orderIds, OrderStatus fromStatus, OrderStatus toStatus) {
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = entityManager.createNativeQuery(TRANSITION_STATUSES_SQL)
+                .setParameter("orderIds", orderIds)
+                .setParameter("fromStatus", fromStatus.name())
+                .setParameter("toStatus", toStatus.name())
+                .setParameter("updatedAt", LocalDateTime.now())
+                .getResultList();
+
+        Map<UUID, String> updated = new HashMap<>(rows.size() * 2);
+        for (Object[] row : rows) {
+            updated.put((UUID) row[0], (String) row[1]);
+        }
+        return updated;
+    }
+
+    @Override
+    public long copyOrders(List<FuelOrder> orders) {
+        if (orders.isEmpty()) {
+            return 0;
+        }
+        StringBuilder csv = new StringBuilder(orders.size() * 160);
+        for (FuelOrder order : orders) {
+            csv.append(order.getId()).append(',')
+                    .append(CsvUtil.field(order.getTailNumber())).append(',')
+                    .append(CsvUtil.field(order.getAirportIcaoCode())).append(',')
+                    .append(order.getRequestedFuelVolume()).append(',')
+                    .append(order.getDeliveryTimeWindowStart()).append(',')
+                    .append(order.getDeliveryTimeWindowEnd()).append(',')
+                    .append(order.getStatus().name()).append(',')
+                    .append(order.getCreatedBy().getId()).append(',')
+                    // An unquoted empty field is NULL in COPY csv format
+                    .append(CsvUtil.field(order.getNotes())).append(',')
+                    .append(order.getCreatedAt()).append(',')
+                    .append(order.getUpdatedAt()).append(',')
+                    .append(0)
+                    .append('\n');
+        }
+
+        // Runs on the connection bound to the current transaction
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                return copyManager.copyIn(COPY_ORDERS_SQL, new StringReader(csv.toString()));
+            } catch (IOException e) {
+                throw new SQLException("Failed to stream rows to COPY", e);
+            }
+        });
+    }
+
+    @Override
+    public void evictFromCache(Collection<UUID> orderIds) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        orderIds.forEach(orderId -> cache.evict(FuelOrder.class, orderId));
+    }
+
+    /**
+     * Select only the columns a FuelOrderView returns; created_by is read from the foreign key without a join
+     */
+    private TypedQuery<FuelOrderView> viewQuery(Specification<FuelOrder> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<FuelOrderView> query = cb.createQuery(FuelOrderView.class);
+        Root<FuelOrder> root = query.from(FuelOrder.class);
+
+        query.select(cb.construct(FuelOrderView.class,
+                root.get("id"),
+                root.get("tailNumber"),
+                root.get("airportIcaoCode"),
+                root.get("requestedFuelVolume"),
+                root.get("deliveryTimeWindowStart"),
+                root.get("deliveryTimeWindowEnd"),
+                root.get("status"),
+                root.get("notes"),
+                root.get("createdBy").get("id"),
+                root.get("createdAt"),
+                root.get("updatedAt")));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private long count(Specification<FuelOrder> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<FuelOrder> root = query.from(FuelOrder.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -0,0 +1,111 @@
+package com.fuelpass.repository;
+
+import com.fuelpass.entity.FuelOrder;
+import com.fuelpass.entity.OrderStatus;
+import com.fuelpass.util.ValidationUtil;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Query building blocks for FuelOrder filters.
+ *
+ * Only the filters a caller actually supplies become predicates, so each filter
+ * combination produces its own SQL shape that the planner can match to an index,
+ * instead of one generic plan for a catch-all "(:x IS NULL OR col = :x)" query.
+ */
+public final class FuelOrderSpecifications {
+
+    /**
+     * Sortable properties; each is backed by an index on fuel_orders
+     */
+    public static final Set<String> SORTABLE_PROPERTIES = Set.of("createdAt", "tailNumber", "airportIcaoCode", "status");
+
+    private static final char LIKE_ESCAPE = '!';
+
+    private FuelOrderSpecifications() {}
+
+    /**
+     * Combine the supplied filters; null or blank filters are left out entirely.
+     * The tail number is matched by prefix instead of substring when requested.
+     */
+    public static Specification<FuelOrder> withFilters(String airportIcaoCode, OrderStatus status,
+                                                       String tailNumber, boolean tailNumberPrefix, UUID createdById) {
+        Specification<FuelOrder> spec = Specification.where(null);
+        if (airportIcaoCode != null && !airportIcaoCode.isBlank()) {
+            spec = spec.and(hasAirport(airportIcaoCode));
+        }
+        if (status != null) {
+            spec = spec.and(hasStatus(status));
+        }
+        if (tailNumber != null && !tailNumber.isBlank()) {
+            spec = spec.and(tailNumberPrefix ? tailNumberStartsWith(tailNumber) : tailNumberContains(tailNumber));
+        }
+        if (createdById != null) {
+            spec = spec.and(createdBy(createdById));
+        }
+        return spec;
+    }
+
+    public static Specification<FuelOrder> hasAirport(String airportIcaoCode) {
+        return (root, query, cb) -> cb.equal(root.get("airportIcaoCode"), airportIcaoCode);
+    }
+
+    public static Specification<FuelOrder> hasStatus(OrderStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    /**
+     * Substring match, served by the tail_number trigram index; tail numbers are stored upper-case
+     */
+    public static Specification<FuelOrder> tailNumberContains(String tailNumber) {
+        String pattern = "%" + ValidationUtil.escapeLikePattern(tailNumber.trim().toUpperCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.like(root.get("tailNumber"), pattern, LIKE_ESCAPE);
+    }
+
+    /**
+     * Prefix match for autocomplete, served by the tail_number pattern-ops B-tree index
+     */
+    public static Specification<FuelOrder> tailNumberStartsWith(String tailNumber) {
+        String pattern = ValidationUtil.escapeLikePattern(tailNumber.trim().toUpperCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.like(root.get("tailNumber"), pattern, LIKE_ESCAPE);
+    }
+
+    /**
+     * Compares the foreign key column directly, without joining users
+     */
+    public static Specification<FuelOrder> createdBy(UUID userId) {
+        return (root, query, cb) -> cb.equal(root.get("createdBy").get("id"), userId);
+    }
+
+    /**
+     * Keyset predicate: rows strictly after the (createdAt, id) position in the given direction.
+     * The leading createdAt bound is implied by the OR but is what lets PostgreSQL start the
+     * created_at index scan at the cursor instead of filtering every newer row.
+     */
+    public static Specification<FuelOrder> afterPosition(LocalDateTime createdAt, UUID id, boolean descending) {
+        return (root, query, cb) -> descending
+                ? cb.and(cb.lessThanOrEqualTo(root.get("createdAt"), createdAt),
+                        cb.or(cb.lessThan(root.get("createdAt"), createdAt),
+                                cb.and(cb.equal(root.get("createdAt"), createdAt), cb.lessThan(root.get("id"), id))))
+                : cb.and(cb.greaterThanOrEqualTo(root.get("createdAt"), createdAt),
+                        cb.or(cb.greaterThan(root.get("createdAt"), createdAt),
+                                cb.and(cb.equal(root.get("createdAt"), createdAt), cb.greaterThan(root.get("id"), id))));
+    }
+
+    /**
+     * Build a sort for an allow-listed property
+     *
+     * @throws IllegalArgumentException if the property is not sortable
+     */
+    public static Sort sortBy(String property, String sortOrder) {
+        if (!SORTABLE_PROPERTIES.contains(property)) {
+            throw new IllegalArgumentException("Cannot sort by '" + property + "'; allowed: " + SORTABLE_PROPERTIES);
+        }
+        return Sort.by(Sort.Direction.fromString(sortOrder), property);
+    }
+}
@@ -0,0 +1,33 @@
+package com.fuelpass.repository;
+
+import com.fuelpass.entity.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for the shared token revocation list
+ */
+@Repository
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, UUID> {
+
+    /**
+     * Unexpired revocations recorded after the given instant, by any node
+     */
+    List<TokenRevocation> findByRevokedAtAfterAndExpiresAtAfter(Instant revokedAfter, Instant now);
+
+    /**
+     * Delete revocations that can no longer match an unexpired token
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM TokenRevocation tr WHERE tr.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -2,25 +2,23 @@ package com.fuelpass.repository;
 
 import com.fuelpass.entity.User;
 import com.fuelpass.entity.UserRole;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
- * Repository interface for User entity operations
+ * Repository interface for User entity operations.
+ * Lookup by email goes through the natural-id API in {@link UserRepositoryImpl}.
  */
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
-
-    /**
-     * Find user by email
-     */
-    Optional<User> findByEmail(String email);
+public interface UserRepository extends JpaRepository<User, UUID>, UserRepositoryCustom {
 
     /**
      * Find user by email and active status
@@ -43,10 +41,29 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     boolean existsByEmail(String email);
 
     /**
-     * Find users by name containing (case insensitive)
+     * Find all registered emails
+     */
+    @Query("SELECT u.email FROM User u")
+    List<String> findAllEmails();
+
+    /**
+     * Find emails of users created or updated since the given time
+     */
+    @Query("SELECT u.email FROM User u WHERE u.updatedAt >= :since")
+    List<String> findEmailsUpdatedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Find active users whose lower-cased email matches a LIKE pattern ('!' escapes).
+     * Substring patterns use the lower(email) trigram index, prefix patterns the text_pattern_ops index.
+     */
+    @Query("SELECT u FROM User u WHERE LOWER(u.email) LIKE :pattern ESCAPE '!' AND u.isActive = true ORDER BY u.email")
+    List<User> searchActiveByEmail(@Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * User counts grouped by role and active flag, in a single pass: rows of (role, isActive, count)
      */
-    @Query("SELECT u FROM User u WHERE LOWER(u.email) LIKE LOWER(CONCAT('%', :email, '%')) AND u.isActive = true")
-    List<User> findByNameContainingIgnoreCase(@Param("email") String email);
+    @Query("SELECT u.role, u.isActive, COUNT(u) FROM User u GROUP BY u.role, u.isActive")
+    List<Object[]> countByRoleAndActive();
 
     /**
      * Count users by role
@@ -0,0 +1,16 @@
+package com.fuelpass.repository;
+
+import com.fuelpass.entity.User;
+
+import java.util.Optional;
+
+/**
+ * User repository operations implemented against the Hibernate session
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * Find user by email, the entity's natural id; served from the second-level cache when enabled
+     */
+    Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,92 @@
+package com.fuelpass.security;
+
+import com.fuelpass.entity.User;
+import com.fuelpass.entity.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+
+/**
+ * Lightweight principal attached to the security context by JwtRequestFilter.
+ * Controllers receive it through AuthenticatedUserArgumentResolver instead of reloading the user.
+ * It never carries the password hash: principals are cached and held in every SecurityContext,
+ * while passwords are only checked by AuthService against the loaded User entity.
+ */
+public class AuthenticatedUser implements UserDetails {
+
+    private static final long serialVersionUID = 1L;
+
+    private final UUID id;
+    private final String email;
+    private final UserRole role;
+    private final boolean active;
+    private final Collection<? extends GrantedAuthority> authorities;
+
+    public AuthenticatedUser(UUID id, String email, UserRole role, boolean active) {
+        this.id = id;
+        this.email = email;
+        this.role = role;
+        this.active = active;
+        this.authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    /**
+     * Build a principal from a loaded user entity
+     */
+    public static AuthenticatedUser fromUser(User user) {
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getEmail(),
+                user.getRole(),
+                Boolean.TRUE.equals(user.getIsActive())
+        );
+    }
+
+    public UUID getId() { return id; }
+
+    public String getEmail() { return email; }
+
+    public UserRole getRole() { return role; }
+
+    public boolean hasRole(UserRole role) {
+        return this.role == role;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() { return authorities; }
+
+    /**
+     * Always null; see the class comment
+     */
+    @Override
+    public String getPassword() { return null; }
+
+    @Override
+    public String getUsername() { return email; }
+
+    @Override
+    public boolean isAccountNonExpired() { return true; }
+
+    @Override
+    public boolean isAccountNonLocked() { return true; }
+
+    @Override
+    public boolean isCredentialsNonExpired() { return true; }
+
+    @Override
+    public boolean isEnabled() { return active; }
+
+    @Override
+    public String toString() {
+        return "AuthenticatedUser{" +
+                "id=" + id +
+                ", email='" + email + '\'' +
+                ", role=" + role +
+                ", active=" + active +
+                '}';
+    }
+}
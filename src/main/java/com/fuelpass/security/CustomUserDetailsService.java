@@ -2,17 +2,21 @@ package com.fuelpass.security;
 
 import com.fuelpass.entity.User;
 import com.fuelpass.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Collection;
-import java.util.Collections;
+import java.time.Duration;
+import java.util.UUID;
 
 @Service
 @Primary
@@ -21,23 +25,61 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${auth.principal-cache.max-size:10000}")
+    private long principalCacheMaxSize;
+
+    @Value("${auth.principal-cache.ttl:PT5M}")
+    private Duration principalCacheTtl;
+
+    /**
+     * Principals keyed by email; entries are evicted by UserService on every account change, and on
+     * the other nodes by TokenRevocationList when it syncs that change from token_revocations
+     */
+    private Cache<String, AuthenticatedUser> principalCache;
+
+    @PostConstruct
+    void initPrincipalCache() {
+        principalCache = Caffeine.newBuilder()
+                .maximumSize(principalCacheMaxSize)
+                .expireAfterWrite(principalCacheTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principalCache, "auth.principals");
+        Gauge.builder("cache.hit.ratio", principalCache, cache -> cache.stats().hitRate())
+                .tag("cache", "auth.principals")
+                .register(meterRegistry);
+    }
+
     @Override
-    public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+    public AuthenticatedUser loadUserByUsername(String email) throws UsernameNotFoundException {
+        return principalCache.get(email, this::loadFromRepository);
+    }
+
+    /**
+     * Drop the cached principal so the next request reloads it from the database
+     */
+    public void evict(String email) {
+        if (email != null) {
+            principalCache.invalidate(email);
+        }
+    }
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPassword(),
-                user.getIsActive(),
-                true, // accountNonExpired
-                true, // credentialsNonExpired
-                true, // accountNonLocked
-                getAuthorities(user.getRole().name())
-        );
+    /**
+     * Drop the cached principal of a user whose email this node may not know
+     */
+    public void evictUser(UUID userId) {
+        if (userId != null) {
+            principalCache.asMap().values().removeIf(principal -> userId.equals(principal.getId()));
+        }
     }
 
-    private Collection<? extends GrantedAuthority> getAuthorities(String role) {
-        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role));
+    private AuthenticatedUser loadFromRepository(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+
+        return AuthenticatedUser.fromUser(user);
     }
-}
\ No newline at end of file
+}
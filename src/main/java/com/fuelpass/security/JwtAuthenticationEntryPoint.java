@@ -1,5 +1,6 @@
 package com.fuelpass.security;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fuelpass.dto.response.ApiResponse;
 import jakarta.servlet.ServletException;
@@ -18,16 +19,24 @@ import java.io.IOException;
 @Component
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
+    // The 401 body never changes, so it is serialized once
+    private static final byte[] UNAUTHORIZED_BODY = serialize(ApiResponse.error("Unauthorized access"));
+
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response,
                          AuthenticationException authException) throws IOException, ServletException {
 
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setContentLength(UNAUTHORIZED_BODY.length);
+        response.getOutputStream().write(UNAUTHORIZED_BODY);
+    }
 
-        ApiResponse<Object> apiResponse = ApiResponse.error("Unauthorized access");
-
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.writeValue(response.getOutputStream(), apiResponse);
+    private static byte[] serialize(ApiResponse<Object> apiResponse) {
+        try {
+            return new ObjectMapper().writeValueAsBytes(apiResponse);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize unauthorized response", e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,123 @@
+package com.fuelpass.security;
+
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Shared HMAC key ring for signing and verifying JWTs.
+ *
+ * Every node loads the same keys from configuration (jwt.key-ring.keys.&lt;kid&gt;=&lt;base64 secret&gt;)
+ * or from a properties file (jwt.key-ring.key-file), so tokens validate on any node and survive restarts.
+ * Tokens are signed with the active key and carry its kid header; all other keys stay valid for
+ * verification. To rotate, roll out the new key everywhere first, then switch active-key-id.
+ * Without any configured keys, jwt.secret is used as a single key with kid "default"; with neither,
+ * startup fails rather than signing with a well-known key.
+ */
+@Component
+@ConfigurationProperties(prefix = "jwt.key-ring")
+public class JwtKeyRing {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private static final String DEFAULT_KEY_ID = "default";
+
+    // HS512 requires at least 512 bits of key material
+    private static final int MIN_KEY_BYTES = 64;
+
+    @Value("${jwt.secret:}")
+    private String legacySecret;
+
+    private String activeKeyId;
+
+    private String keyFile;
+
+    private Map<String, String> keys = new LinkedHashMap<>();
+
+    private Map<String, SecretKey> verificationKeys = Collections.emptyMap();
+
+    private SecretKey activeKey;
+
+    @PostConstruct
+    void load() throws IOException {
+        Map<String, String> encodedKeys = new LinkedHashMap<>(keys);
+        if (keyFile != null && !keyFile.isBlank()) {
+            Properties fileKeys = new Properties();
+            try (Reader reader = Files.newBufferedReader(Path.of(keyFile), StandardCharsets.UTF_8)) {
+                fileKeys.load(reader);
+            }
+            fileKeys.stringPropertyNames().forEach(kid -> encodedKeys.put(kid, fileKeys.getProperty(kid).trim()));
+        }
+
+        Map<String, SecretKey> loaded = new LinkedHashMap<>();
+        encodedKeys.forEach((kid, encoded) -> loaded.put(kid, toKey(kid, Base64.getDecoder().decode(encoded))));
+
+        if (loaded.isEmpty()) {
+            if (legacySecret == null || legacySecret.isBlank()) {
+                throw new IllegalStateException("No JWT signing key configured: set jwt.key-ring.keys, jwt.key-ring.key-file or JWT_SECRET");
+            }
+            loaded.put(DEFAULT_KEY_ID, toKey(DEFAULT_KEY_ID, legacySecret.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        if (activeKeyId == null || activeKeyId.isBlank()) {
+            activeKeyId = loaded.keySet().iterator().next();
+        }
+        activeKey = loaded.get(activeKeyId);
+        if (activeKey == null) {
+            throw new IllegalStateException("Active JWT key id '" + activeKeyId + "' is not in the key ring");
+        }
+
+        verificationKeys = Collections.unmodifiableMap(loaded);
+        logger.info("Loaded JWT key ring with {} key(s), active key id '{}'", verificationKeys.size(), activeKeyId);
+    }
+
+    /**
+     * Key used to sign new tokens
+     */
+    public SecretKey getActiveKey() {
+        return activeKey;
+    }
+
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    /**
+     * Key for verifying a token with the given kid header; tokens without a kid use the active key
+     */
+    public SecretKey getVerificationKey(String keyId) {
+        return keyId == null ? activeKey : verificationKeys.get(keyId);
+    }
+
+    private static SecretKey toKey(String keyId, byte[] material) {
+        if (material.length < MIN_KEY_BYTES) {
+            throw new IllegalStateException("JWT key '" + keyId + "' must be at least " + MIN_KEY_BYTES + " bytes for HS512");
+        }
+        return Keys.hmacShaKeyFor(material);
+    }
+
+    // Configuration properties
+    public void setActiveKeyId(String activeKeyId) { this.activeKeyId = activeKeyId; }
+
+    public String getKeyFile() { return keyFile; }
+    public void setKeyFile(String keyFile) { this.keyFile = keyFile; }
+
+    public Map<String, String> getKeys() { return keys; }
+    public void setKeys(Map<String, String> keys) { this.keys = keys; }
+}
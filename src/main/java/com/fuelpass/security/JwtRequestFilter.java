@@ -1,22 +1,24 @@
 package com.fuelpass.security;
 
-import com.fuelpass.security.CustomUserDetailsService; // Remove this line
-import com.fuelpass.security.CustomUserDetailsService; // Add this line instead
-import com.fuelpass.security.JwtUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 @Component
 public class JwtRequestFilter extends OncePerRequestFilter {
@@ -27,21 +29,36 @@ public class JwtRequestFilter extends OncePerRequestFilter {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
+    // Same public paths SecurityConfig permits; no token work is needed there
+    private final RequestMatcher publicPaths = new OrRequestMatcher(Arrays.stream(SecurityConfig.PUBLIC_PATHS)
+            .map(AntPathRequestMatcher::antMatcher)
+            .toArray(RequestMatcher[]::new));
+
+    private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return publicPaths.matches(request);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain chain) throws ServletException, IOException {
 
-        final String requestTokenHeader = request.getHeader("Authorization");
         String username = null;
-        String jwtToken = null;
+        String jwtToken = JwtUtil.resolveBearerToken(request.getHeader(HttpHeaders.AUTHORIZATION));
+        Claims claims = null;
 
         // First, try to get token from Authorization header
-        if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
-            jwtToken = requestTokenHeader.substring(7);
+        if (jwtToken != null) {
             try {
-                username = jwtUtil.getUsernameFromToken(jwtToken);
+                claims = jwtUtil.getClaimsFromToken(jwtToken);
+                username = claims.getSubject();
             } catch (Exception e) {
-                logger.warn("Unable to get JWT Token from Authorization header", e);
+                logger.debug("Unable to get JWT Token from Authorization header: " + e.getMessage());
             }
         }
 
@@ -53,10 +70,10 @@ public class JwtRequestFilter extends OncePerRequestFilter {
                     if ("jwt-token".equals(cookie.getName())) {
                         jwtToken = cookie.getValue();
                         try {
-                            username = jwtUtil.getUsernameFromToken(jwtToken);
-                            logger.info("JWT token found in cookies for user: " + username);
+                            claims = jwtUtil.getClaimsFromToken(jwtToken);
+                            username = claims.getSubject();
                         } catch (Exception e) {
-                            logger.warn("Unable to get JWT Token from cookies", e);
+                            logger.debug("Unable to get JWT Token from cookies: " + e.getMessage());
                             jwtToken = null;
                         }
                         break;
@@ -65,24 +82,27 @@ public class JwtRequestFilter extends OncePerRequestFilter {
             }
         }
 
-        // Once we get the token validate it.
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+        // Once we get the token validate it. Refresh tokens and revoked tokens never authorize a request.
+        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null
+                && !jwtUtil.isRefreshToken(claims) && !tokenRevocationList.isRevoked(claims)) {
+            // In stateless mode the signed uid/role claims stand in for the user lookup
+            AuthenticatedUser userDetails = jwtUtil.isStatelessAuthorization() ? jwtUtil.getPrincipalFromClaims(claims) : null;
+            if (userDetails == null) {
+                userDetails = this.userDetailsService.loadUserByUsername(username);
+            }
 
-            // if token is valid configure Spring Security to manually set authentication
-            if (jwtUtil.validateToken(jwtToken, userDetails)) {
+            // if token is valid and the account is still active configure Spring Security to manually set authentication
+            if (userDetails.isEnabled() && jwtUtil.validateToken(claims, userDetails)) {
                 UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
                         new UsernamePasswordAuthenticationToken(
                                 userDetails, null, userDetails.getAuthorities());
                 usernamePasswordAuthenticationToken
-                        .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        .setDetails(authenticationDetailsSource.buildDetails(request));
 
                 // After setting the Authentication in the context, we specify
                 // that the current user is authenticated. So it passes the
                 // Spring Security Configurations successfully.
                 SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
-
-                logger.info("Authentication set for user: " + username);
             }
         }
 
@@ -1,24 +1,51 @@
 package com.fuelpass.security;
 
+import com.fuelpass.entity.User;
+import com.fuelpass.entity.UserRole;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
-//    @Value("${jwt.secret:mySecretKey}")
-//    private String secret;
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String TYPE_CLAIM = "type";
+    public static final String REFRESH_TYPE = "refresh";
+    /**
+     * Issue time in epoch millis; iat only has whole seconds, too coarse to order tokens against revocations
+     */
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
+    private static final String BEARER_PREFIX = "Bearer ";
 
     @Value("${jwt.expiration:86400}") // 24 hours in seconds
     private Long expiration;
@@ -26,11 +53,64 @@ public class JwtUtil {
     @Value("${jwt.refresh.expiration:604800}") // 7 days in seconds
     private Long refreshExpiration;
 
-    private final SecretKey secret = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
+    /**
+     * When enabled, the uid/role claims are trusted and requests are authorized without a user lookup
+     */
+    @Value("${jwt.stateless-authorization:false}")
+    private boolean statelessAuthorization;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JwtKeyRing keyRing;
+
+    // Parsers are immutable and thread-safe, so one instance serves every request
+    private JwtParser parser;
+
+    /**
+     * Verified claims keyed by token digest; each entry lives until the token's exp
+     */
+    private Cache<String, Claims> claimsCache;
 
-//    private SecretKey getSigningKey() {
-//        return Keys.hmacShaKeyFor(secret.getBytes());
-//    }
+    /**
+     * Token carried by an Authorization header value, or null when it is not a bearer token
+     */
+    public static String resolveBearerToken(String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
+        return authorizationHeader.substring(BEARER_PREFIX.length());
+    }
+
+    @PostConstruct
+    void initParser() {
+        parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        SecretKey key = keyRing.getVerificationKey(header.getKeyId());
+                        if (key == null) {
+                            throw new UnsupportedJwtException("Unknown JWT key id: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+    }
+
+    @PostConstruct
+    void initClaimsCache() {
+        claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, claimsCache, "jwt.claims");
+    }
 
     public String getUsernameFromToken(String token) {
         return getClaimFromToken(token, Claims::getSubject);
@@ -41,20 +121,32 @@ public class JwtUtil {
     }
 
     public <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = getAllClaimsFromToken(token);
+        final Claims claims = getClaimsFromToken(token);
         return claimsResolver.apply(claims);
     }
 
+    /**
+     * Verify the token signature once and return its claims.
+     * Repeat calls with the same token are served from the claims cache.
+     */
+    public Claims getClaimsFromToken(String token) {
+        String digest = digest(token);
+        Claims claims = claimsCache.getIfPresent(digest);
+        if (claims == null) {
+            claims = getAllClaimsFromToken(token);
+            if (!isTokenExpired(claims)) {
+                claimsCache.put(digest, claims);
+            }
+        }
+        return claims;
+    }
+
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secret)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
-    private Boolean isTokenExpired(String token) {
-        final Date expiration = getExpirationDateFromToken(token);
+    private Boolean isTokenExpired(Claims claims) {
+        final Date expiration = claims.getExpiration();
         return expiration.before(new Date());
     }
 
@@ -63,26 +155,81 @@ public class JwtUtil {
         return createToken(claims, username, expiration);
     }
 
+    /**
+     * Generate an access token carrying the signed user id and role claims
+     */
+    public String generateToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(USER_ID_CLAIM, user.getId().toString());
+        claims.put(ROLE_CLAIM, user.getRole().name());
+        return createToken(claims, user.getEmail(), expiration);
+    }
+
     public String generateRefreshToken(String username) {
         Map<String, Object> claims = new HashMap<>();
-        claims.put("type", "refresh");
+        claims.put(TYPE_CLAIM, REFRESH_TYPE);
         return createToken(claims, username, refreshExpiration);
     }
 
+    /**
+     * Generate a refresh token carrying the user id, so revoking the user also revokes it
+     */
+    public String generateRefreshToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(TYPE_CLAIM, REFRESH_TYPE);
+        claims.put(USER_ID_CLAIM, user.getId().toString());
+        return createToken(claims, user.getEmail(), refreshExpiration);
+    }
+
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH_TYPE.equals(claims.get(TYPE_CLAIM, String.class));
+    }
+
+    public boolean isStatelessAuthorization() {
+        return statelessAuthorization;
+    }
+
+    /**
+     * Build the request principal from the uid/role claims, or null when the token does not carry them
+     */
+    public AuthenticatedUser getPrincipalFromClaims(Claims claims) {
+        String userId = claims.get(USER_ID_CLAIM, String.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            return null;
+        }
+        return new AuthenticatedUser(UUID.fromString(userId), claims.getSubject(), UserRole.valueOf(role), true);
+    }
+
     private String createToken(Map<String, Object> claims, String subject, Long expiration) {
+        long now = System.currentTimeMillis();
+        claims.put(ISSUED_AT_MILLIS_CLAIM, now);
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getActiveKeyId())
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(subject)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration * 1000))
-                .signWith(secret, SignatureAlgorithm.HS512)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + expiration * 1000))
+                .signWith(keyRing.getActiveKey(), SignatureAlgorithm.HS512)
                 .compact();
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
         try {
-            final String username = getUsernameFromToken(token);
-            return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+            return validateToken(getClaimsFromToken(token), userDetails);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Validate already verified claims against the loaded user
+     */
+    public Boolean validateToken(Claims claims, UserDetails userDetails) {
+        try {
+            final String username = claims.getSubject();
+            return (username.equals(userDetails.getUsername()) && !isTokenExpired(claims));
         } catch (Exception e) {
             return false;
         }
@@ -90,9 +237,41 @@ public class JwtUtil {
 
     public Boolean validateToken(String token) {
         try {
-            return !isTokenExpired(token);
+            return !isTokenExpired(getClaimsFromToken(token));
         } catch (Exception e) {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Expires cached claims at the token's own exp instant
+     */
+    private static class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.fuelpass.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * In-memory token-bucket throttling for the authentication endpoints.
+ *
+ * Each client IP and each email gets its own bucket. Buckets are implemented as a
+ * generic cell rate algorithm: a single "theoretical arrival time" per bucket. Tokens are
+ * taken inside ConcurrentHashMap.compute, which only serializes requests hashing to the
+ * same bin, and the periodic sweep of fully refilled buckets re-checks idleness under the
+ * same bin lock, so a bucket is never dropped while a request is taking a token from it.
+ *
+ * Client IPs come from HttpServletRequest.getRemoteAddr(), which the servlet container
+ * resolves from X-Forwarded-For when the peer is a trusted proxy (server.forward-headers-strategy).
+ */
+@Component
+public class LoginRateLimiter {
+
+    public static final String EMAIL_SCOPE = "email";
+    public static final String IP_SCOPE = "ip";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${auth.login-throttle.ip.capacity:20}")
+    private int ipCapacity;
+
+    @Value("${auth.login-throttle.ip.refill-period:PT1M}")
+    private Duration ipRefillPeriod;
+
+    @Value("${auth.login-throttle.email.capacity:5}")
+    private int emailCapacity;
+
+    @Value("${auth.login-throttle.email.refill-period:PT1M}")
+    private Duration emailRefillPeriod;
+
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * Monotonic time source; replaced in tests
+     */
+    LongSupplier nanoClock = System::nanoTime;
+
+    private Counter emailThrottledCounter;
+
+    private Counter ipThrottledCounter;
+
+    @PostConstruct
+    void initMetrics() {
+        emailThrottledCounter = Counter.builder("auth.throttled")
+                .tag("scope", EMAIL_SCOPE)
+                .description("Authentication requests rejected by the per-email bucket")
+                .register(meterRegistry);
+        ipThrottledCounter = Counter.builder("auth.throttled")
+                .tag("scope", IP_SCOPE)
+                .description("Authentication requests rejected by the per-IP bucket")
+                .register(meterRegistry);
+        Gauge.builder("auth.throttle.buckets", buckets, ConcurrentHashMap::size)
+                .description("Active throttling buckets")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Take one token from the client IP bucket
+     *
+     * @return 0 when allowed, otherwise the number of seconds to wait before retrying
+     */
+    public long tryAcquireForIp(String clientIp) {
+        long waitNanos = tryAcquire(IP_SCOPE, clientIp, ipCapacity, ipRefillPeriod);
+        if (waitNanos > 0) {
+            ipThrottledCounter.increment();
+        }
+        return toRetryAfterSeconds(waitNanos);
+    }
+
+    /**
+     * Take one token from the IP bucket and then from the email bucket
+     *
+     * @return 0 when allowed, otherwise the number of seconds to wait before retrying
+     */
+    public long tryAcquireForLogin(String clientIp, String email) {
+        long retryAfter = tryAcquireForIp(clientIp);
+        if (retryAfter > 0 || email == null) {
+            return retryAfter;
+        }
+
+        String normalizedEmail = email.trim().toLowerCase(Locale.ROOT);
+        long waitNanos = tryAcquire(EMAIL_SCOPE, normalizedEmail, emailCapacity, emailRefillPeriod);
+        if (waitNanos > 0) {
+            emailThrottledCounter.increment();
+        }
+        return toRetryAfterSeconds(waitNanos);
+    }
+
+    /**
+     * Drop buckets that have fully refilled; they hold no information
+     */
+    @Scheduled(fixedDelayString = "${auth.login-throttle.sweep-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = nanoClock.getAsLong();
+        for (String key : buckets.keySet()) {
+            buckets.computeIfPresent(key, (k, bucket) -> bucket.isIdle(now) ? null : bucket);
+        }
+    }
+
+    /**
+     * @return 0 when a token was taken, otherwise nanoseconds until one is available
+     */
+    private long tryAcquire(String scope, String key, int capacity, Duration refillPeriod) {
+        long now = nanoClock.getAsLong();
+        long[] waitNanos = new long[1];
+        buckets.compute(scope + ':' + key, (k, existing) -> {
+            Bucket bucket = existing != null ? existing : new Bucket(capacity, refillPeriod, now);
+            waitNanos[0] = bucket.tryAcquire(now);
+            return bucket;
+        });
+        return waitNanos[0];
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return waitNanos <= 0 ? 0 : Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Token bucket holding only its theoretical arrival time
+     */
+    private static class Bucket {
+
+        private final long emissionIntervalNanos;
+        private final long burstNanos;
+        private final AtomicLong theoreticalArrival;
+
+        Bucket(int capacity, Duration refillPeriod, long now) {
+            this.emissionIntervalNanos = refillPeriod.toNanos() / capacity;
+            this.burstNanos = emissionIntervalNanos * capacity;
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+
+        /**
+         * @return 0 when a token was taken, otherwise nanoseconds until one is available
+         */
+        long tryAcquire(long now) {
+            while (true) {
+                long current = theoreticalArrival.get();
+                long next = Math.max(current, now) + emissionIntervalNanos;
+                long overdraft = next - now - burstNanos;
+                if (overdraft > 0) {
+                    return overdraft;
+                }
+                if (theoreticalArrival.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        boolean isIdle(long now) {
+            return theoreticalArrival.get() - now <= 0;
+        }
+    }
+}
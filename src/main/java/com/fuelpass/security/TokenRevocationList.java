@@ -0,0 +1,216 @@
+package com.fuelpass.security;
+
+import com.fuelpass.entity.TokenRevocation;
+import com.fuelpass.repository.TokenRevocationRepository;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revocation list for access and refresh tokens, shared by every node through the token_revocations table.
+ *
+ * Users are revoked by id (every token issued before the revocation instant) and single tokens
+ * by jti. Each revocation is written to the database and applied to this node's in-memory copy
+ * at once; other nodes pick it up on their next incremental sync, so a revocation takes effect
+ * cluster-wide within auth.revocation.sync-interval-ms. Entries are kept for one refresh-token
+ * lifetime, after which every token they could match has expired on its own.
+ *
+ * The same sync evicts cached principals: every user revocation, and every principal-only row
+ * published for account changes that revoke no token (reactivation), drops the user's entry from
+ * CustomUserDetailsService on each node, so no node serves a stale role or active flag for longer
+ * than one sync interval.
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationList.class);
+
+    /**
+     * Re-read this much before the last sync so revocations committed during it are not missed
+     */
+    private static final long SYNC_OVERLAP_MILLIS = 60_000;
+
+    @Autowired
+    private TokenRevocationRepository tokenRevocationRepository;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Value("${jwt.refresh.expiration:604800}") // longest token lifetime in seconds
+    private Long refreshTokenLifetime;
+
+    @Value("${auth.principal-cache.ttl:PT5M}")
+    private Duration principalCacheTtl;
+
+    /**
+     * User id to revocation instant (epoch millis)
+     */
+    private final Map<UUID, Long> revokedUsers = new ConcurrentHashMap<>();
+
+    /**
+     * Token id to token expiry (epoch millis)
+     */
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    /**
+     * User id to the latest principal change applied on this node (epoch millis), so rows re-read
+     * in the sync overlap do not evict the same principal again
+     */
+    private final Map<UUID, Long> principalChanges = new ConcurrentHashMap<>();
+
+    private volatile long lastSync;
+
+    /**
+     * Load every unexpired revocation once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRevocations() {
+        long startedAt = System.currentTimeMillis();
+        apply(Instant.EPOCH, startedAt);
+        lastSync = startedAt;
+        logger.info("Token revocation list loaded with {} entries", size());
+    }
+
+    /**
+     * Apply revocations recorded by any node since the last sync, and purge expired ones
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval-ms:5000}",
+            initialDelayString = "${auth.revocation.sync-interval-ms:5000}")
+    public void syncRevocations() {
+        long startedAt = System.currentTimeMillis();
+        apply(Instant.ofEpochMilli(lastSync - SYNC_OVERLAP_MILLIS), startedAt);
+        lastSync = startedAt;
+        purgeExpired(startedAt);
+    }
+
+    /**
+     * Delete expired revocations from the shared table
+     */
+    @Scheduled(fixedDelayString = "${auth.revocation.purge-interval-ms:3600000}")
+    public void purgeStoredRevocations() {
+        int deleted = tokenRevocationRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            logger.debug("Purged {} expired token revocations", deleted);
+        }
+    }
+
+    /**
+     * Revoke every token issued to the user up to now
+     */
+    public void revokeUser(UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        revokedUsers.merge(userId, now, Math::max);
+        principalChanges.merge(userId, now, Math::max);
+        tokenRevocationRepository.save(new TokenRevocation(userId, null,
+                Instant.ofEpochMilli(now), Instant.ofEpochMilli(now + refreshTokenLifetime * 1000)));
+        purgeExpired(now);
+    }
+
+    /**
+     * Make every other node drop the user's cached principal without revoking any token.
+     * The caller evicts this node's entry itself.
+     */
+    public void publishPrincipalChange(UUID userId) {
+        if (userId == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        principalChanges.merge(userId, now, Math::max);
+        TokenRevocation change = new TokenRevocation(userId, null,
+                Instant.ofEpochMilli(now), Instant.ofEpochMilli(now).plus(principalCacheTtl));
+        change.setPrincipalOnly(true);
+        tokenRevocationRepository.save(change);
+    }
+
+    /**
+     * Revoke a single token until it expires
+     */
+    public void revokeToken(String tokenId, Date expiresAt) {
+        if (tokenId == null || expiresAt == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (expiresAt.getTime() > now) {
+            revokedTokens.put(tokenId, expiresAt.getTime());
+            tokenRevocationRepository.save(new TokenRevocation(null, tokenId,
+                    Instant.ofEpochMilli(now), expiresAt.toInstant()));
+        }
+        purgeExpired(now);
+    }
+
+    /**
+     * Check verified claims against the revoked users and tokens
+     */
+    public boolean isRevoked(Claims claims) {
+        if (claims.getId() != null && revokedTokens.containsKey(claims.getId())) {
+            return true;
+        }
+
+        String userId = claims.get(JwtUtil.USER_ID_CLAIM, String.class);
+        if (userId == null || revokedUsers.isEmpty()) {
+            return false;
+        }
+        Long revokedAt = revokedUsers.get(UUID.fromString(userId));
+        if (revokedAt == null) {
+            return false;
+        }
+
+        Number issuedAtMillis = claims.get(JwtUtil.ISSUED_AT_MILLIS_CLAIM, Number.class);
+        if (issuedAtMillis != null) {
+            // Millisecond issue time: a token issued after the revocation, even in the same second, stays valid
+            return issuedAtMillis.longValue() < revokedAt;
+        }
+        // Older tokens only carry iat in whole seconds; revoke the whole second to be safe
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null || issuedAt.getTime() <= revokedAt - revokedAt % 1000;
+    }
+
+    public int size() {
+        return revokedUsers.size() + revokedTokens.size();
+    }
+
+    private void apply(Instant revokedAfter, long now) {
+        for (TokenRevocation revocation : tokenRevocationRepository.findByRevokedAtAfterAndExpiresAtAfter(
+                revokedAfter, Instant.ofEpochMilli(now))) {
+            if (revocation.getUserId() != null) {
+                long revokedAt = revocation.getRevokedAt().toEpochMilli();
+                if (!revocation.isPrincipalOnly()) {
+                    revokedUsers.merge(revocation.getUserId(), revokedAt, Math::max);
+                }
+                Long appliedAt = principalChanges.get(revocation.getUserId());
+                if (appliedAt == null || appliedAt < revokedAt) {
+                    principalChanges.merge(revocation.getUserId(), revokedAt, Math::max);
+                    userDetailsService.evictUser(revocation.getUserId());
+                }
+            }
+            if (revocation.getTokenId() != null) {
+                revokedTokens.put(revocation.getTokenId(), revocation.getExpiresAt().toEpochMilli());
+            }
+        }
+    }
+
+    private void purgeExpired(long now) {
+        long userCutoff = now - refreshTokenLifetime * 1000;
+        revokedUsers.values().removeIf(revokedAt -> revokedAt < userCutoff);
+        revokedTokens.values().removeIf(expiresAt -> expiresAt < now);
+        // Older changes are outside the window any later sync re-reads
+        long changeCutoff = now - 2 * SYNC_OVERLAP_MILLIS;
+        principalChanges.values().removeIf(changedAt -> changedAt < changeCutoff);
+    }
+}
@@ -3,13 +3,15 @@ package com.fuelpass.service;
 import com.fuelpass.dto.request.LoginRequest;
 import com.fuelpass.dto.response.AuthResponse;
 import com.fuelpass.entity.User;
+import com.fuelpass.exception.ServiceUnavailableException;
 import com.fuelpass.repository.UserRepository;
+import com.fuelpass.security.CustomUserDetailsService;
 import com.fuelpass.security.JwtUtil;
+import com.fuelpass.security.TokenRevocationList;
+import io.jsonwebtoken.Claims;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -19,15 +21,29 @@ public class AuthService {
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private EmailBloomFilter emailBloomFilter;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
 
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
     /**
      * Authenticate user and return JWT tokens
      */
     public AuthResponse login(LoginRequest request) {
+        // Reject unknown emails without touching the database
+        if (!emailBloomFilter.mightContain(request.getEmail())) {
+            throw new RuntimeException("Invalid user");
+        }
+
         // Find user by email
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new RuntimeException("Invalid user"));
@@ -37,19 +53,19 @@ public class AuthService {
             throw new RuntimeException("Account is deactivated");
         }
 
-        // Verify password
-//        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-//            throw new RuntimeException("Invalid email or password");
-//        }
-        if(!Objects.equals(request.getPassword(), user.getPassword())){
-            throw new RuntimeException("Invalid password");
+        // Verify password on the bounded hashing executor
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
+            throw new RuntimeException("Invalid email or password");
         }
 
+        // Upgrade hashes produced with an older cost factor while the raw password is at hand
+        rehashIfNeeded(user, request.getPassword());
+
         // Generate JWT token
-        String token = jwtUtil.generateToken(user.getEmail());
+        String token = jwtUtil.generateToken(user);
 
-        // Generate refresh token (you can implement this in JwtUtil)
-        String refreshToken = jwtUtil.generateRefreshToken(user.getEmail());
+        // Generate refresh token
+        String refreshToken = jwtUtil.generateRefreshToken(user);
 
         // Create and return AuthResponse
         return AuthResponse.builder()
@@ -67,12 +83,13 @@ public class AuthService {
     public AuthResponse refreshToken(String refreshToken) {
         try {
             // Validate refresh token
-            if (!jwtUtil.validateToken(refreshToken, null)) {
+            Claims claims = jwtUtil.getClaimsFromToken(refreshToken);
+            if (!jwtUtil.isRefreshToken(claims) || tokenRevocationList.isRevoked(claims)) {
                 throw new RuntimeException("Invalid refresh token");
             }
 
             // Get username from refresh token
-            String email = jwtUtil.getUsernameFromToken(refreshToken);
+            String email = claims.getSubject();
 
             // Find user
             User user = userRepository.findByEmail(email)
@@ -84,8 +101,8 @@ public class AuthService {
             }
 
             // Generate new JWT token
-            String newToken = jwtUtil.generateToken(user.getEmail());
-            String newRefreshToken = jwtUtil.generateRefreshToken(user.getEmail());
+            String newToken = jwtUtil.generateToken(user);
+            String newRefreshToken = jwtUtil.generateRefreshToken(user);
 
             // Create and return AuthResponse
             return AuthResponse.builder()
@@ -100,6 +117,44 @@ public class AuthService {
         }
     }
 
+    /**
+     * Re-encode the password when the configured BCrypt cost has changed
+     */
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordHashingService.needsRehash(user.getPassword())) {
+            return;
+        }
+        try {
+            user.setPassword(passwordHashingService.encode(rawPassword));
+            userRepository.save(user);
+            userDetailsService.evict(user.getEmail());
+        } catch (ServiceUnavailableException e) {
+            // Saturated; the hash is upgraded on a later login
+        }
+    }
+
+    /**
+     * Revoke the presented access and refresh tokens so none can be replayed until it expires.
+     * API clients send the access token as a bearer header and browsers as a cookie; both are revoked.
+     */
+    public void logout(String bearerToken, String cookieToken, String refreshToken) {
+        revoke(bearerToken);
+        revoke(cookieToken);
+        revoke(refreshToken);
+    }
+
+    private void revoke(String token) {
+        if (token == null || token.isEmpty()) {
+            return;
+        }
+        try {
+            Claims claims = jwtUtil.getClaimsFromToken(token);
+            tokenRevocationList.revokeToken(claims.getId(), claims.getExpiration());
+        } catch (Exception e) {
+            // Invalid or expired tokens need no revocation
+        }
+    }
+
     /**
      * Get user by email
      */
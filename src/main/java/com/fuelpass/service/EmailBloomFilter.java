@@ -0,0 +1,190 @@
+package com.fuelpass.service;
+
+import com.fuelpass.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of registered emails used to skip users lookups for addresses that cannot exist.
+ *
+ * A positive answer still needs the database. The filter is sized once from the configured
+ * expected insertions and false-positive rate, loaded from UserRepository when the application
+ * is ready, and kept current by UserService on create and update. Emails created on other nodes
+ * only reach it through an incremental refresh, so before a negative answer is given the filter
+ * is refreshed unless it already was within auth.email-filter.max-staleness-ms. That bounds the
+ * window in which a user just created on another node is reported absent, while a flood of
+ * unknown emails costs at most one small indexed query per interval. Until the initial load
+ * finishes every email is reported as possibly present.
+ */
+@Component
+public class EmailBloomFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailBloomFilter.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${auth.email-filter.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${auth.email-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${auth.email-filter.max-staleness-ms:1000}")
+    private long maxStalenessMillis;
+
+    private AtomicLongArray bits;
+
+    private long bitCount;
+
+    private int hashFunctions;
+
+    private volatile boolean ready;
+
+    private volatile LocalDateTime lastRefresh;
+
+    /**
+     * Wall-clock millis at which the last load or refresh started; emails committed before it are in the filter
+     */
+    private volatile long lastRefreshMillis;
+
+    @PostConstruct
+    void initFilter() {
+        double ln2 = Math.log(2);
+        bitCount = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2)));
+        hashFunctions = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+        bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+
+        Gauge.builder("auth.email-filter.bytes", this, filter -> filter.bits.length() * 8.0)
+                .description("Memory used by the email Bloom filter bit array")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Load every registered email once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRegisteredEmails() {
+        long startedAtMillis = System.currentTimeMillis();
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<String> emails = userRepository.findAllEmails();
+        emails.forEach(this::put);
+        lastRefresh = startedAt;
+        lastRefreshMillis = startedAtMillis;
+        ready = true;
+        logger.info("Email filter loaded with {} emails ({} bits, {} hash functions)", emails.size(), bitCount, hashFunctions);
+    }
+
+    /**
+     * Add emails created or changed since the last refresh, including those written by other nodes
+     */
+    @Scheduled(fixedDelayString = "${auth.email-filter.refresh-interval-ms:300000}",
+            initialDelayString = "${auth.email-filter.refresh-interval-ms:300000}")
+    public synchronized void refreshRecentEmails() {
+        if (!ready) {
+            return;
+        }
+        long startedAtMillis = System.currentTimeMillis();
+        LocalDateTime startedAt = LocalDateTime.now();
+        // Overlap the previous window so rows committed during the last refresh are not missed
+        userRepository.findEmailsUpdatedSince(lastRefresh.minusMinutes(1)).forEach(this::put);
+        lastRefresh = startedAt;
+        lastRefreshMillis = startedAtMillis;
+    }
+
+    /**
+     * @return false only when the email was not registered as of a refresh at most max-staleness-ms old
+     */
+    public boolean mightContain(String email) {
+        if (!ready || email == null) {
+            return true;
+        }
+        if (contains(email)) {
+            return true;
+        }
+        if (isStale()) {
+            refreshIfStale();
+            return contains(email);
+        }
+        return false;
+    }
+
+    /**
+     * Refresh unless a concurrent caller already did while this one waited
+     */
+    private synchronized void refreshIfStale() {
+        if (isStale()) {
+            refreshRecentEmails();
+        }
+    }
+
+    private boolean isStale() {
+        return System.currentTimeMillis() - lastRefreshMillis > maxStalenessMillis;
+    }
+
+    private boolean contains(String email) {
+        long hash1 = hash(email, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(email, 0xC2B2AE3D27D4EB4FL);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Record a registered email
+     */
+    public void put(String email) {
+        if (email == null) {
+            return;
+        }
+        long hash1 = hash(email, 0x9E3779B97F4A7C15L);
+        long hash2 = hash(email, 0xC2B2AE3D27D4EB4FL);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            long mask = 1L << bit;
+            bits.getAndAccumulate((int) (bit >>> 6), mask, (word, m) -> word | m);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Seeded FNV-1a over the email characters, finished with the MurmurHash3 64-bit mix
+     */
+    private static long hash(String value, long seed) {
+        long hash = 0xCBF29CE484222325L ^ seed;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
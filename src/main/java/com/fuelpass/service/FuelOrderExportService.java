@@ -0,0 +1,202 @@
+package com.fuelpass.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fuelpass.dto.response.FuelOrderView;
+import com.fuelpass.entity.FuelOrder;
+import com.fuelpass.exception.ServiceUnavailableException;
+import com.fuelpass.repository.FuelOrderRepository;
+import com.fuelpass.util.CsvUtil;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Streams fuel orders as CSV or NDJSON.
+ *
+ * Rows are read as views from a forward-only cursor and written to the output as they arrive,
+ * so memory use does not depend on the size of the export. The read transaction, and with it a
+ * pooled connection, stays open until the client has received the last row.
+ */
+@Service
+public class FuelOrderExportService {
+
+    private static final long RETRY_AFTER_SECONDS = 30;
+
+    private static final String CSV_HEADER = "id,tailNumber,airportIcaoCode,requestedFuelVolume,"
+            + "deliveryTimeWindowStart,deliveryTimeWindowEnd,status,notes,createdAt,updatedAt";
+
+    /**
+     * Supported export formats
+     */
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String mediaType;
+        private final String fileExtension;
+
+        Format(String mediaType, String fileExtension) {
+            this.mediaType = mediaType;
+            this.fileExtension = fileExtension;
+        }
+
+        /**
+         * @throws IllegalArgumentException if the format is not supported
+         */
+        public static Format of(String format) {
+            try {
+                return valueOf(format.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported export format: " + format);
+            }
+        }
+
+        public String getMediaType() { return mediaType; }
+
+        public String getFileExtension() { return fileExtension; }
+    }
+
+    @Autowired
+    private FuelOrderRepository fuelOrderRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${orders.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${orders.export.max-concurrent:4}")
+    private int maxConcurrentExports;
+
+    private Semaphore exportSlots;
+
+    @PostConstruct
+    void initSlots() {
+        exportSlots = new Semaphore(maxConcurrentExports);
+    }
+
+    /**
+     * Reserve one of the orders.export.max-concurrent export slots. A running export holds a pooled
+     * connection until its last row is sent, so exports are capped well below the pool size.
+     * The slot must be released once the export has finished or will never start.
+     *
+     * @throws ServiceUnavailableException if every slot is in use
+     */
+    public ExportSlot reserveSlot() {
+        if (!exportSlots.tryAcquire()) {
+            throw new ServiceUnavailableException("Too many exports in progress, try again later", RETRY_AFTER_SECONDS);
+        }
+        return new ExportSlot();
+    }
+
+    /**
+     * Exports currently holding a slot
+     */
+    public int getActiveExports() {
+        return maxConcurrentExports - exportSlots.availablePermits();
+    }
+
+    /**
+     * A reserved export slot; releasing it more than once has no further effect
+     */
+    public class ExportSlot {
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ExportSlot() {}
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                exportSlots.release();
+            }
+        }
+    }
+
+    /**
+     * Write every order matching the specification to the output, ordered by creation time
+     *
+     * @return the number of orders written
+     */
+    @Transactional(readOnly = true)
+    public long export(Specification<FuelOrder> spec, Sort.Direction direction, Format format, OutputStream out) throws IOException {
+        // id breaks ties so the order is stable across repeated exports
+        Sort sort = Sort.by(direction, "createdAt").and(Sort.by(direction, "id"));
+
+        try (Stream<FuelOrderView> orders = fuelOrderRepository.streamViews(spec, sort, fetchSize)) {
+            return format == Format.CSV ? writeCsv(orders.iterator(), out) : writeNdjson(orders.iterator(), out);
+        }
+    }
+
+    private long writeCsv(Iterator<FuelOrderView> orders, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        long count = 0;
+        while (orders.hasNext()) {
+            FuelOrderView order = orders.next();
+            writer.write(String.valueOf(order.getId()));
+            writer.write(',');
+            writer.write(CsvUtil.textField(order.getTailNumber()));
+            writer.write(',');
+            writer.write(CsvUtil.textField(order.getAirportIcaoCode()));
+            writer.write(',');
+            writer.write(CsvUtil.field(order.getRequestedFuelVolume()));
+            writer.write(',');
+            writer.write(CsvUtil.field(order.getDeliveryTimeWindowStart()));
+            writer.write(',');
+            writer.write(CsvUtil.field(order.getDeliveryTimeWindowEnd()));
+            writer.write(',');
+            writer.write(CsvUtil.field(order.getStatus()));
+            writer.write(',');
+            writer.write(CsvUtil.textField(order.getNotes()));
+            writer.write(',');
+            writer.write(CsvUtil.field(order.getCreatedAt()));
+            writer.write(',');
+            writer.write(CsvUtil.field(order.getUpdatedAt()));
+            writer.write('\n');
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    private long writeNdjson(Iterator<FuelOrderView> orders, OutputStream out) throws IOException {
+        long count = 0;
+        // Flushing is left to the generator's buffer instead of one flush per row; the response stream stays open
+        try (SequenceWriter writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(out)) {
+            while (orders.hasNext()) {
+                writer.write(orders.next());
+                count++;
+            }
+        }
+        if (count > 0) {
+            out.write('\n');
+        }
+        out.flush();
+        return count;
+    }
+}
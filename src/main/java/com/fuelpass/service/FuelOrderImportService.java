@@ -0,0 +1,279 @@
+package com.fuelpass.service;
+
+import com.fuelpass.dto.request.CreateFuelOrderRequest;
+import com.fuelpass.dto.response.BatchItemResult;
+import com.fuelpass.dto.response.ImportResult;
+import com.fuelpass.entity.FuelOrder;
+import com.fuelpass.entity.OrderStatus;
+import com.fuelpass.entity.User;
+import com.fuelpass.exception.ResourceNotFoundException;
+import com.fuelpass.repository.FuelOrderRepository;
+import com.fuelpass.repository.UserRepository;
+import com.fuelpass.util.CsvUtil;
+import com.fuelpass.util.ValidationUtil;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.Future;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bulk import of historical fuel orders from CSV.
+ *
+ * Each row is validated with the CreateFuelOrderRequest constraints and the ValidationUtil delivery
+ * window rule; valid rows are written in chunks through the PostgreSQL COPY protocol instead of one
+ * JPA insert per order. Rejected rows are reported by data row index and CSV line number. All valid
+ * rows are committed together, and the statistics counters are reconciled afterwards since COPY
+ * bypasses the service.
+ * Monthly partitions back to the oldest createdAt are created by {@link #createPartitionsFor(Reader)}
+ * before the import transaction starts, so partition DDL never runs inside it.
+ */
+@Service
+public class FuelOrderImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FuelOrderImportService.class);
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+            "tailNumber", "airportIcaoCode", "requestedFuelVolume", "deliveryTimeWindowStart", "deliveryTimeWindowEnd");
+
+    @Autowired
+    private FuelOrderRepository fuelOrderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrderStatisticsCounters orderStatisticsCounters;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private FuelOrderPartitionMaintenance fuelOrderPartitionMaintenance;
+
+    @Value("${orders.import.copy-chunk-size:5000}")
+    private int copyChunkSize;
+
+    @Value("${orders.import.max-reported-rejections:1000}")
+    private int maxReportedRejections;
+
+    @Value("${orders.import.created-at-floor:2015-01-01}")
+    private String createdAtFloor;
+
+    /**
+     * Create the monthly partitions back to the oldest valid createdAt in the CSV, so imported history
+     * lands in its own month rather than the default partition. Call before {@link #importOrders} on a
+     * second reader over the same content; runs outside any transaction.
+     *
+     * @throws IllegalArgumentException if the header is missing required columns or the file is malformed
+     */
+    public void createPartitionsFor(Reader csv) throws IOException {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime floor = LocalDate.parse(createdAtFloor).atStartOfDay();
+
+        CsvUtil.RecordReader reader = new CsvUtil.RecordReader(csv);
+        Map<String, Integer> columns = readHeader(reader.readRecord());
+        if (!columns.containsKey("createdAt")) {
+            return;
+        }
+
+        LocalDate oldestMonth = null;
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            if (record.size() != columns.size()) {
+                continue;
+            }
+            // Rows that fail to parse or fall outside the accepted range are rejected by the import
+            LocalDateTime createdAt = parse(column(record, columns, "createdAt"), "createdAt", new ArrayList<>(), LocalDateTime::parse);
+            if (createdAt == null || createdAt.isAfter(now) || createdAt.isBefore(floor)) {
+                continue;
+            }
+            LocalDate month = createdAt.toLocalDate().withDayOfMonth(1);
+            if (oldestMonth == null || month.isBefore(oldestMonth)) {
+                oldestMonth = month;
+            }
+        }
+        if (oldestMonth != null) {
+            fuelOrderPartitionMaintenance.createPartitionsFrom(oldestMonth);
+        }
+    }
+
+    /**
+     * Import orders from CSV with a header row. Required columns are tailNumber, airportIcaoCode,
+     * requestedFuelVolume, deliveryTimeWindowStart and deliveryTimeWindowEnd; notes, status
+     * (default PENDING) and createdAt (default now) are optional. Timestamps are ISO-8601 local date-times;
+     * createdAt may not be in the future or before orders.import.created-at-floor.
+     *
+     * @throws IllegalArgumentException if the header is missing required columns or the file is malformed
+     */
+    @Transactional
+    public ImportResult importOrders(Reader csv, UUID createdById) throws IOException {
+        if (!userRepository.existsById(createdById)) {
+            throw new ResourceNotFoundException("User", createdById.toString());
+        }
+        User createdBy = userRepository.getReferenceById(createdById);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime floor = LocalDate.parse(createdAtFloor).atStartOfDay();
+
+        CsvUtil.RecordReader reader = new CsvUtil.RecordReader(csv);
+        Map<String, Integer> columns = readHeader(reader.readRecord());
+
+        ImportResult result = new ImportResult();
+        List<FuelOrder> chunk = new ArrayList<>(copyChunkSize);
+        int index = 0;
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            int line = (int) reader.getRecordLine();
+            List<String> errors = new ArrayList<>();
+            FuelOrder order = toFuelOrder(record, columns, createdBy, now, floor, errors);
+            if (order == null) {
+                reject(result, index++, line, errors);
+                continue;
+            }
+            index++;
+            chunk.add(order);
+            if (chunk.size() >= copyChunkSize) {
+                result.setImportedRows(result.getImportedRows() + fuelOrderRepository.copyOrders(chunk));
+                chunk.clear();
+            }
+        }
+        result.setImportedRows(result.getImportedRows() + fuelOrderRepository.copyOrders(chunk));
+
+        if (result.getImportedRows() > 0 && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    orderStatisticsCounters.reconcile();
+                }
+            });
+        }
+        logger.info("Imported {} fuel orders for user {}, rejected {} rows",
+                result.getImportedRows(), createdById, result.getRejectedRows());
+        return result;
+    }
+
+    private Map<String, Integer> readHeader(List<String> header) {
+        if (header == null) {
+            throw new IllegalArgumentException("CSV file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing columns " + missing);
+        }
+        return columns;
+    }
+
+    /**
+     * Parse and validate one row
+     *
+     * @return the order, or null with the reasons added to {@code errors}
+     */
+    private FuelOrder toFuelOrder(List<String> record, Map<String, Integer> columns, User createdBy,
+                                  LocalDateTime now, LocalDateTime floor, List<String> errors) {
+        if (record.size() != columns.size()) {
+            errors.add("Expected " + columns.size() + " fields but found " + record.size());
+            return null;
+        }
+
+        CreateFuelOrderRequest request = new CreateFuelOrderRequest();
+        request.setTailNumber(column(record, columns, "tailNumber"));
+        request.setAirportIcaoCode(column(record, columns, "airportIcaoCode"));
+        request.setNotes(column(record, columns, "notes"));
+        request.setRequestedFuelVolume(parse(column(record, columns, "requestedFuelVolume"), "requestedFuelVolume", errors, Double::valueOf));
+        request.setDeliveryTimeWindowStart(parse(column(record, columns, "deliveryTimeWindowStart"), "deliveryTimeWindowStart", errors, LocalDateTime::parse));
+        request.setDeliveryTimeWindowEnd(parse(column(record, columns, "deliveryTimeWindowEnd"), "deliveryTimeWindowEnd", errors, LocalDateTime::parse));
+        OrderStatus status = parse(column(record, columns, "status"), "status", errors,
+                value -> OrderStatus.valueOf(value.toUpperCase(Locale.ROOT)));
+        LocalDateTime createdAt = parse(column(record, columns, "createdAt"), "createdAt", errors, LocalDateTime::parse);
+
+        // Same constraints as the create endpoint, except that historical orders are allowed in the past
+        validator.validate(request).stream()
+                .filter(violation -> !(violation.getConstraintDescriptor().getAnnotation() instanceof Future))
+                .forEach(violation -> errors.add(violation.getMessage()));
+        if (request.getDeliveryTimeWindowStart() != null && request.getDeliveryTimeWindowEnd() != null
+                && !ValidationUtil.isValidDeliveryWindow(request.getDeliveryTimeWindowStart(), request.getDeliveryTimeWindowEnd())) {
+            errors.add("Delivery window must end after it starts and cannot exceed 24 hours");
+        }
+        if (createdAt != null && createdAt.isAfter(now)) {
+            errors.add("createdAt cannot be in the future");
+        } else if (createdAt != null && createdAt.isBefore(floor)) {
+            errors.add("createdAt cannot be before " + floor.toLocalDate());
+        }
+        if (!errors.isEmpty()) {
+            return null;
+        }
+
+        LocalDateTime timestamp = createdAt != null ? createdAt : now;
+        FuelOrder order = new FuelOrder();
+        order.setId(UUID.randomUUID());
+        order.setTailNumber(request.getTailNumber());
+        order.setAirportIcaoCode(request.getAirportIcaoCode());
+        order.setRequestedFuelVolume(request.getRequestedFuelVolume());
+        order.setDeliveryTimeWindowStart(request.getDeliveryTimeWindowStart());
+        order.setDeliveryTimeWindowEnd(request.getDeliveryTimeWindowEnd());
+        order.setStatus(status != null ? status : OrderStatus.PENDING);
+        order.setCreatedBy(createdBy);
+        order.setNotes(request.getNotes());
+        order.setCreatedAt(timestamp);
+        order.setUpdatedAt(timestamp);
+        return order;
+    }
+
+    private void reject(ImportResult result, int index, int line, List<String> errors) {
+        result.setRejectedRows(result.getRejectedRows() + 1);
+        if (result.getRejected().size() < maxReportedRejections) {
+            result.getRejected().add(BatchItemResult.rejectedLine(index, line, errors));
+        } else {
+            result.setRejectedTruncated(true);
+        }
+    }
+
+    /**
+     * @return the trimmed value, or null when the column is absent or blank
+     */
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static <T> T parse(String value, String column, List<String> errors, Function<String, T> parser) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            errors.add("Invalid " + column + ": " + value);
+            return null;
+        }
+    }
+}
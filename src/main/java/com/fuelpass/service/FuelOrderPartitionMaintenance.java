@@ -0,0 +1,60 @@
+package com.fuelpass.service;
+
+import com.fuelpass.repository.FuelOrderRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Keeps monthly fuel_orders partitions created ahead of time, and back to any older rows.
+ *
+ * fuel_orders is range-partitioned by month on created_at; rows for a month without its own
+ * partition land in fuel_orders_default. The partitions are created by a database function, so
+ * every node may run this job: existing partitions are skipped and a concurrent create is ignored.
+ * Each run also creates partitions for months that still have rows in the default partition and
+ * moves those rows into them. A month that cannot be created (e.g. its lock is not granted within
+ * a few seconds) is skipped with a database warning and retried on the next run.
+ */
+@Component
+public class FuelOrderPartitionMaintenance {
+
+    private static final Logger logger = LoggerFactory.getLogger(FuelOrderPartitionMaintenance.class);
+
+    @Autowired
+    private FuelOrderRepository fuelOrderRepository;
+
+    @Value("${orders.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    /**
+     * Create missing partitions from the current month through the configured months ahead
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${orders.partitions.maintenance-cron:0 0 3 * * *}")
+    public void createUpcomingPartitions() {
+        createPartitionsFrom(LocalDate.now());
+    }
+
+    /**
+     * Create missing partitions from the given month through the configured months ahead,
+     * e.g. before importing historical orders
+     */
+    public void createPartitionsFrom(LocalDate fromMonth) {
+        try {
+            int created = fuelOrderRepository.createMonthlyPartitions(fromMonth, monthsAhead);
+            if (created > 0) {
+                logger.info("Created {} fuel order partitions", created);
+            }
+        } catch (RuntimeException e) {
+            // Rows for missing months stay in the default partition until a later run moves them
+            logger.warn("Failed to create fuel order partitions; will retry on the next run", e);
+        }
+    }
+}
@@ -2,21 +2,43 @@ package com.fuelpass.service;
 
 import com.fuelpass.dto.request.CreateFuelOrderRequest;
 import com.fuelpass.dto.request.UpdateOrderStatusRequest;
+import com.fuelpass.dto.response.BatchItemResult;
+import com.fuelpass.dto.response.CursorPage;
+import com.fuelpass.dto.response.FuelOrderView;
+import com.fuelpass.dto.response.OrderStatistics;
 import com.fuelpass.entity.FuelOrder;
 import com.fuelpass.entity.OrderStatus;
 import com.fuelpass.entity.User;
+import com.fuelpass.exception.ResourceNotFoundException;
 import com.fuelpass.repository.FuelOrderRepository;
+import com.fuelpass.repository.FuelOrderRepositoryCustom;
+import com.fuelpass.repository.FuelOrderSpecifications;
+import com.fuelpass.repository.UserRepository;
+import com.fuelpass.util.CursorUtil;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -30,125 +52,381 @@ public class FuelOrderService {
     private FuelOrderRepository fuelOrderRepository;
 
     @Autowired
-    private AuthService authService;
+    private UserRepository userRepository;
+
+    @Autowired
+    private OrderStatisticsCounters orderStatisticsCounters;
+
+    @Autowired
+    private Validator validator;
+
+    @Value("${orders.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    @Value("${orders.pagination.max-size:100}")
+    private int maxPageSize;
 
     /**
      * Create a new fuel order
      */
-    public FuelOrder createOrder(CreateFuelOrderRequest request, User createdBy) {
-        // Validate delivery time window
-        if (request.getDeliveryTimeWindowEnd().isBefore(request.getDeliveryTimeWindowStart())) {
-            throw new IllegalArgumentException("Delivery time window end must be after start time");
+    public FuelOrder createOrder(CreateFuelOrderRequest request, UUID createdById) {
+        validateDeliveryWindow(request);
+
+        // Reference only; the authenticated user was already resolved by the security filter
+        FuelOrder fuelOrder = toFuelOrder(request, userRepository.getReferenceById(createdById));
+
+        FuelOrder savedOrder = fuelOrderRepository.save(fuelOrder);
+        afterCommit(() -> orderStatisticsCounters.recordCreated(savedOrder.getAirportIcaoCode(), savedOrder.getStatus()));
+        return savedOrder;
+    }
+
+    /**
+     * Create several fuel orders in one transaction.
+     * Each request is validated on its own; valid orders are inserted together through JDBC batching
+     * and invalid ones are reported without being inserted.
+     */
+    public List<BatchItemResult> createOrders(List<CreateFuelOrderRequest> requests, UUID createdById) {
+        if (requests.size() > maxBatchSize) {
+            throw new IllegalArgumentException("A batch may contain at most " + maxBatchSize + " orders");
         }
 
-        // Check if delivery window is not more than 24 hours
-        long hoursBetween = java.time.Duration.between(
-                request.getDeliveryTimeWindowStart(),
-                request.getDeliveryTimeWindowEnd()
-        ).toHours();
+        User createdBy = userRepository.getReferenceById(createdById);
+        List<BatchItemResult> results = new ArrayList<>(requests.size());
+        List<FuelOrder> orders = new ArrayList<>(requests.size());
+        List<Integer> orderIndexes = new ArrayList<>(requests.size());
 
-        if (hoursBetween > 24) {
-            throw new IllegalArgumentException("Delivery window cannot exceed 24 hours");
+        for (int i = 0; i < requests.size(); i++) {
+            CreateFuelOrderRequest request = requests.get(i);
+            List<String> errors = validate(request);
+            if (!errors.isEmpty()) {
+                results.add(BatchItemResult.failure(i, null, errors));
+                continue;
+            }
+            orders.add(toFuelOrder(request, createdBy));
+            orderIndexes.add(i);
+            results.add(null);
         }
 
-        // Create fuel order
-        FuelOrder fuelOrder = new FuelOrder();
-        fuelOrder.setTailNumber(request.getTailNumber());
-        fuelOrder.setAirportIcaoCode(request.getAirportIcaoCode());
-        fuelOrder.setRequestedFuelVolume(request.getRequestedFuelVolume());
-        fuelOrder.setDeliveryTimeWindowStart(request.getDeliveryTimeWindowStart());
-        fuelOrder.setDeliveryTimeWindowEnd(request.getDeliveryTimeWindowEnd());
-        fuelOrder.setCreatedBy(createdBy);
-        fuelOrder.setNotes(request.getNotes());
-        fuelOrder.setStatus(OrderStatus.PENDING);
+        // Ids are generated in the application, so all inserts can go out in JDBC batches at flush
+        List<FuelOrder> savedOrders = fuelOrderRepository.saveAll(orders);
+        for (int i = 0; i < savedOrders.size(); i++) {
+            FuelOrder savedOrder = savedOrders.get(i);
+            int index = orderIndexes.get(i);
+            results.set(index, BatchItemResult.success(index, savedOrder.getId(), savedOrder.getStatus()));
+        }
 
-        return fuelOrderRepository.save(fuelOrder);
+        afterCommit(() -> savedOrders.forEach(order ->
+                orderStatisticsCounters.recordCreated(order.getAirportIcaoCode(), order.getStatus())));
+        return results;
     }
 
     /**
      * Get fuel orders with pagination and filters
      */
-    public Page<FuelOrder> getOrders(String airportIcaoCode, OrderStatus status,
-                                     String tailNumber, User createdBy,
-                                     int page, int size, String sortBy, String sortOrder) {
+    @Transactional(readOnly = true)
+    public Page<FuelOrderView> getOrders(String airportIcaoCode, OrderStatus status,
+                                         String tailNumber, boolean tailNumberPrefix, UUID createdById,
+                                         int page, int size, String sortBy, String sortOrder) {
 
         // Create pageable object
-        Sort sort = Sort.by(Sort.Direction.fromString(sortOrder), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+        Sort sort = FuelOrderSpecifications.sortBy(sortBy, sortOrder);
+        Pageable pageable = PageRequest.of(page, pageSize(size), sort);
 
-        // Use repository method with filters
-        return fuelOrderRepository.findWithFilters(
-                airportIcaoCode, status, tailNumber, createdBy, pageable
+        // Only the supplied filters become predicates
+        return fuelOrderRepository.findViews(
+                FuelOrderSpecifications.withFilters(airportIcaoCode, status, tailNumber, tailNumberPrefix, createdById), pageable
         );
     }
 
     /**
-     * Get fuel order by ID
+     * Get fuel orders with keyset pagination and filters, ordered by creation time.
+     * Seeks past the (createdAt, id) cursor instead of using OFFSET, and skips the count query.
      */
+    @Transactional(readOnly = true)
+    public CursorPage<FuelOrderView> getOrdersByCursor(String airportIcaoCode, OrderStatus status,
+                                                       String tailNumber, boolean tailNumberPrefix, UUID createdById,
+                                                       String cursor, int size, String sortOrder) {
+        int limit = pageSize(size);
+        Sort.Direction direction = Sort.Direction.fromString(sortOrder);
+        Sort sort = Sort.by(direction, "createdAt", "id");
+
+        Specification<FuelOrder> spec = FuelOrderSpecifications.withFilters(
+                airportIcaoCode, status, tailNumber, tailNumberPrefix, createdById);
+        if (cursor != null && !cursor.isBlank()) {
+            CursorUtil.Position position = CursorUtil.decode(cursor);
+            spec = spec.and(FuelOrderSpecifications.afterPosition(
+                    position.getCreatedAt(), position.getId(), direction.isDescending()));
+        }
+
+        // Fetch one extra row to learn whether another page exists
+        List<FuelOrderView> orders = fuelOrderRepository.findViews(spec, sort, limit + 1);
+
+        boolean hasNext = orders.size() > limit;
+        List<FuelOrderView> content = hasNext ? orders.subList(0, limit) : orders;
+        String nextCursor = null;
+        if (hasNext) {
+            FuelOrderView last = content.get(content.size() - 1);
+            nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return new CursorPage<>(content, limit, hasNext, nextCursor);
+    }
+
+    /**
+     * Get fuel order by ID; the read-only session keeps no dirty-checking snapshot
+     */
+    @Transactional(readOnly = true)
     public FuelOrder getOrderById(UUID orderId) {
         return fuelOrderRepository.findById(orderId)
                 .orElseThrow(() -> new RuntimeException("Fuel order not found with id: " + orderId));
     }
 
     /**
-     * Update fuel order status
+     * Update fuel order status with a single guarded UPDATE.
+     * The order only changes if its current status may transition to the new one; otherwise
+     * it was moved by someone else (or never allowed the transition) and the transition is rejected.
      */
-    public FuelOrder updateOrderStatus(UUID orderId, UpdateOrderStatusRequest request, User updatedBy) {
-        FuelOrder fuelOrder = getOrderById(orderId);
-
-        // Validate status transition
-        if (!isValidStatusTransition(fuelOrder.getStatus(), request.getNewStatus())) {
-            throw new IllegalArgumentException(
-                    "Invalid status transition from " + fuelOrder.getStatus() + " to " + request.getNewStatus()
-            );
+    public FuelOrder updateOrderStatus(UUID orderId, UpdateOrderStatusRequest request) {
+        OrderStatus newStatus = request.getNewStatus();
+        Set<OrderStatus> predecessors = allowedPredecessors(newStatus);
+        if (predecessors.isEmpty()) {
+            throw new IllegalArgumentException("Orders cannot be moved to " + newStatus);
         }
 
-        fuelOrder.setStatus(request.getNewStatus());
-        return fuelOrderRepository.save(fuelOrder);
+        FuelOrderRepositoryCustom.StatusTransition transition = fuelOrderRepository
+                .transitionStatus(orderId, predecessors, newStatus)
+                .orElseThrow(() -> rejectedTransition(orderId, newStatus));
+
+        FuelOrder savedOrder = transition.getOrder();
+        evictOrders(List.of(orderId));
+        afterCommit(() -> orderStatisticsCounters.recordStatusChange(
+                savedOrder.getAirportIcaoCode(), transition.getPreviousStatus(), savedOrder.getStatus()));
+        return savedOrder;
     }
 
     /**
-     * Get order statistics
+     * Move several orders to the same status.
+     * Runs one guarded UPDATE per allowed source status instead of a load and save per order;
+     * orders in any other status are reported as invalid transitions, unknown ids as not found.
      */
-    public Map<String, Long> getOrderStatistics() {
-        Map<String, Long> statistics = new HashMap<>();
+    public List<BatchItemResult> updateOrderStatuses(List<UUID> orderIds, OrderStatus newStatus) {
+        if (orderIds.size() > maxBatchSize) {
+            throw new IllegalArgumentException("A batch may contain at most " + maxBatchSize + " orders");
+        }
+        Set<OrderStatus> predecessors = allowedPredecessors(newStatus);
+        if (predecessors.isEmpty()) {
+            throw new IllegalArgumentException("Orders cannot be moved to " + newStatus);
+        }
 
-        statistics.put("totalOrders", fuelOrderRepository.count());
-        statistics.put("pendingOrders", fuelOrderRepository.countByStatus(OrderStatus.PENDING));
-        statistics.put("confirmedOrders", fuelOrderRepository.countByStatus(OrderStatus.CONFIRMED));
-        statistics.put("completedOrders", fuelOrderRepository.countByStatus(OrderStatus.COMPLETED));
+        Set<UUID> remaining = new LinkedHashSet<>(orderIds);
+        Set<UUID> updated = new HashSet<>();
+        for (OrderStatus fromStatus : predecessors) {
+            if (remaining.isEmpty()) {
+                break;
+            }
+            Map<UUID, String> changed = fuelOrderRepository.transitionStatuses(remaining, fromStatus, newStatus);
+            remaining.removeAll(changed.keySet());
+            updated.addAll(changed.keySet());
+            afterCommit(() -> changed.values().forEach(airportIcaoCode ->
+                    orderStatisticsCounters.recordStatusChange(airportIcaoCode, fromStatus, newStatus)));
+        }
+
+        evictOrders(updated);
+
+        // Explain the orders that were not updated
+        Map<UUID, OrderStatus> currentStatuses = new HashMap<>();
+        if (!remaining.isEmpty()) {
+            for (Object[] row : fuelOrderRepository.findStatusesByIdIn(remaining)) {
+                currentStatuses.put((UUID) row[0], (OrderStatus) row[1]);
+            }
+        }
 
+        List<BatchItemResult> results = new ArrayList<>(orderIds.size());
+        for (int i = 0; i < orderIds.size(); i++) {
+            UUID orderId = orderIds.get(i);
+            if (updated.contains(orderId)) {
+                results.add(BatchItemResult.success(i, orderId, newStatus));
+            } else if (currentStatuses.containsKey(orderId)) {
+                results.add(BatchItemResult.failure(i, orderId,
+                        List.of("Invalid status transition from " + currentStatuses.get(orderId) + " to " + newStatus)));
+            } else {
+                results.add(BatchItemResult.failure(i, orderId, List.of("Fuel order not found with id: " + orderId)));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Get order statistics from the in-memory counters, or from a single grouped count until they are seeded.
+     * No transaction is opened here, so the in-memory path never touches a connection.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public OrderStatistics getOrderStatistics() {
+        if (orderStatisticsCounters.isReady()) {
+            return orderStatisticsCounters.snapshot();
+        }
+
+        OrderStatistics statistics = new OrderStatistics();
+        for (Object[] row : fuelOrderRepository.countByAirportAndStatus()) {
+            statistics.addCount((String) row[0], (OrderStatus) row[1], (Long) row[2]);
+        }
         return statistics;
     }
 
     /**
      * Get orders by user
      */
-    public Page<FuelOrder> getOrdersByUser(User user, int page, int size, String sortBy, String sortOrder) {
-        Sort sort = Sort.by(Sort.Direction.fromString(sortOrder), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+    @Transactional(readOnly = true)
+    public Page<FuelOrderView> getOrdersByUser(UUID userId, int page, int size, String sortBy, String sortOrder) {
+        Sort sort = FuelOrderSpecifications.sortBy(sortBy, sortOrder);
+        Pageable pageable = PageRequest.of(page, pageSize(size), sort);
 
-        return fuelOrderRepository.findByCreatedBy(user, pageable);
+        return fuelOrderRepository.findViews(FuelOrderSpecifications.createdBy(userId), pageable);
+    }
+
+    /**
+     * Get orders by user with keyset pagination
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<FuelOrderView> getOrdersByUserCursor(UUID userId, String cursor, int size, String sortOrder) {
+        return getOrdersByCursor(null, null, null, false, userId, cursor, size, sortOrder);
     }
 
     /**
      * Get orders by status
      */
-    public Page<FuelOrder> getOrdersByStatus(OrderStatus status, int page, int size, String sortBy, String sortOrder) {
-        Sort sort = Sort.by(Sort.Direction.fromString(sortOrder), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+    @Transactional(readOnly = true)
+    public Page<FuelOrderView> getOrdersByStatus(OrderStatus status, int page, int size, String sortBy, String sortOrder) {
+        Sort sort = FuelOrderSpecifications.sortBy(sortBy, sortOrder);
+        Pageable pageable = PageRequest.of(page, pageSize(size), sort);
 
-        return fuelOrderRepository.findByStatus(status, pageable);
+        return fuelOrderRepository.findViews(FuelOrderSpecifications.hasStatus(status), pageable);
     }
 
     /**
      * Get orders by airport
      */
-    public Page<FuelOrder> getOrdersByAirport(String airportIcaoCode, int page, int size, String sortBy, String sortOrder) {
-        Sort sort = Sort.by(Sort.Direction.fromString(sortOrder), sortBy);
-        Pageable pageable = PageRequest.of(page, size, sort);
+    @Transactional(readOnly = true)
+    public Page<FuelOrderView> getOrdersByAirport(String airportIcaoCode, int page, int size, String sortBy, String sortOrder) {
+        Sort sort = FuelOrderSpecifications.sortBy(sortBy, sortOrder);
+        Pageable pageable = PageRequest.of(page, pageSize(size), sort);
+
+        return fuelOrderRepository.findViews(FuelOrderSpecifications.hasAirport(airportIcaoCode), pageable);
+    }
+
+    /**
+     * Requested page size, capped at orders.pagination.max-size
+     *
+     * @throws IllegalArgumentException if the size is less than 1
+     */
+    private int pageSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * Bean validation plus the delivery window rules, collected as messages
+     */
+    private List<String> validate(CreateFuelOrderRequest request) {
+        if (request == null) {
+            return List.of("Order is required");
+        }
+        List<String> errors = new ArrayList<>();
+        validator.validate(request).forEach(violation -> errors.add(violation.getMessage()));
+        if (errors.isEmpty()) {
+            try {
+                validateDeliveryWindow(request);
+            } catch (IllegalArgumentException e) {
+                errors.add(e.getMessage());
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Validate delivery time window
+     */
+    private void validateDeliveryWindow(CreateFuelOrderRequest request) {
+        if (request.getDeliveryTimeWindowEnd().isBefore(request.getDeliveryTimeWindowStart())) {
+            throw new IllegalArgumentException("Delivery time window end must be after start time");
+        }
 
-        return fuelOrderRepository.findByAirportIcaoCode(airportIcaoCode, pageable);
+        // Check if delivery window is not more than 24 hours
+        long hoursBetween = java.time.Duration.between(
+                request.getDeliveryTimeWindowStart(),
+                request.getDeliveryTimeWindowEnd()
+        ).toHours();
+
+        if (hoursBetween > 24) {
+            throw new IllegalArgumentException("Delivery window cannot exceed 24 hours");
+        }
+    }
+
+    private FuelOrder toFuelOrder(CreateFuelOrderRequest request, User createdBy) {
+        FuelOrder fuelOrder = new FuelOrder();
+        fuelOrder.setTailNumber(request.getTailNumber());
+        fuelOrder.setAirportIcaoCode(request.getAirportIcaoCode());
+        fuelOrder.setRequestedFuelVolume(request.getRequestedFuelVolume());
+        fuelOrder.setDeliveryTimeWindowStart(request.getDeliveryTimeWindowStart());
+        fuelOrder.setDeliveryTimeWindowEnd(request.getDeliveryTimeWindowEnd());
+        fuelOrder.setCreatedBy(createdBy);
+        fuelOrder.setNotes(request.getNotes());
+        fuelOrder.setStatus(OrderStatus.PENDING);
+        return fuelOrder;
+    }
+
+    /**
+     * Evict orders changed by native SQL from the second-level cache now and again after commit,
+     * so a read racing the transaction cannot re-cache the old row
+     */
+    private void evictOrders(Collection<UUID> orderIds) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = List.copyOf(orderIds);
+        fuelOrderRepository.evictFromCache(ids);
+        afterCommit(() -> fuelOrderRepository.evictFromCache(ids));
+    }
+
+    /**
+     * Run an action once the current transaction commits, or immediately when there is none
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Explain why a guarded transition updated nothing; an order in the wrong status is a bad request (400), as before
+     */
+    private RuntimeException rejectedTransition(UUID orderId, OrderStatus newStatus) {
+        return fuelOrderRepository.findStatusById(orderId)
+                .<RuntimeException>map(current -> new IllegalArgumentException(
+                        "Invalid status transition from " + current + " to " + newStatus))
+                .orElseGet(() -> new ResourceNotFoundException("Fuel order", orderId.toString()));
+    }
+
+    /**
+     * Statuses from which an order may move to the given status
+     */
+    private Set<OrderStatus> allowedPredecessors(OrderStatus newStatus) {
+        Set<OrderStatus> predecessors = EnumSet.noneOf(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            if (isValidStatusTransition(status, newStatus)) {
+                predecessors.add(status);
+            }
+        }
+        return predecessors;
     }
 
     /**
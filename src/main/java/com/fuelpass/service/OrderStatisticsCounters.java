@@ -0,0 +1,233 @@
+package com.fuelpass.service;
+
+import com.fuelpass.dto.response.OrderStatistics;
+import com.fuelpass.entity.OrderStatus;
+import com.fuelpass.repository.FuelOrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory order counts by status and by airport + status, so the statistics endpoint needs no query.
+ *
+ * Counters are seeded from one grouped count when the application is ready and then moved by
+ * FuelOrderService after each committed create or status change. Orders written by other nodes or
+ * outside the service are only picked up by the periodic reconciliation, which recomputes the counts
+ * from the database and corrects any drift. Until seeding finishes {@link #isReady()} is false and
+ * callers should query the database instead.
+ */
+@Component
+public class OrderStatisticsCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderStatisticsCounters.class);
+
+    @Autowired
+    private FuelOrderRepository fuelOrderRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${orders.statistics-counters.reconcile-attempts:3}")
+    private int reconcileAttempts;
+
+    private final Map<OrderStatus, LongAdder> byStatus = newStatusCounters();
+
+    private final ConcurrentHashMap<String, Map<OrderStatus, LongAdder>> byAirport = new ConcurrentHashMap<>();
+
+    /**
+     * Bumped on every in-memory update; a reconciliation that overlaps an update is retried
+     */
+    private final AtomicLong updateSequence = new AtomicLong();
+
+    private volatile boolean ready;
+
+    private DistributionSummary driftSummary;
+
+    private Counter correctionCounter;
+
+    @PostConstruct
+    void initMetrics() {
+        driftSummary = DistributionSummary.builder("orders.statistics.drift")
+                .description("Absolute order count drift corrected by each reconciliation")
+                .register(meterRegistry);
+        correctionCounter = Counter.builder("orders.statistics.corrections")
+                .description("Order statistics counters corrected by reconciliation")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Seed the counters once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+        ready = true;
+        logger.info("Order statistics counters seeded for {} airports", byAirport.size());
+    }
+
+    /**
+     * Recompute the counts from the database and correct any drift.
+     *
+     * The counters are snapshotted before the query and only the difference between the database
+     * and that snapshot is added, so updates recorded while the query runs are kept rather than
+     * overwritten. If counters moved during the query the snapshot may disagree with the database
+     * about those orders, so the pass is retried, up to orders.statistics-counters.reconcile-attempts
+     * times, and then applied anyway; any error left over is corrected by the next pass.
+     */
+    @Scheduled(fixedDelayString = "${orders.statistics-counters.reconcile-interval-ms:300000}",
+            initialDelayString = "${orders.statistics-counters.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        for (int attempt = 1; ; attempt++) {
+            long sequenceBefore = updateSequence.get();
+            Map<OrderStatus, Long> statusSnapshot = sums(byStatus);
+            Map<String, Map<OrderStatus, Long>> airportSnapshot = new HashMap<>();
+            byAirport.forEach((airportIcaoCode, counters) -> airportSnapshot.put(airportIcaoCode, sums(counters)));
+
+            Map<OrderStatus, Long> statusCounts = new EnumMap<>(OrderStatus.class);
+            Map<String, Map<OrderStatus, Long>> airportCounts = new HashMap<>();
+            for (Object[] row : fuelOrderRepository.countByAirportAndStatus()) {
+                String airportIcaoCode = (String) row[0];
+                OrderStatus status = (OrderStatus) row[1];
+                long count = (Long) row[2];
+                statusCounts.merge(status, count, Long::sum);
+                airportCounts.computeIfAbsent(airportIcaoCode, airport -> new EnumMap<>(OrderStatus.class)).put(status, count);
+            }
+
+            if (updateSequence.get() != sequenceBefore && attempt < reconcileAttempts) {
+                logger.debug("Retrying order statistics reconciliation: counters changed during the query");
+                continue;
+            }
+
+            applyCorrections(statusSnapshot, statusCounts, airportSnapshot, airportCounts);
+            return;
+        }
+    }
+
+    /**
+     * Count an order created in the given status
+     */
+    public void recordCreated(String airportIcaoCode, OrderStatus status) {
+        updateSequence.incrementAndGet();
+        byStatus.get(status).increment();
+        airportCounters(airportIcaoCode).get(status).increment();
+    }
+
+    /**
+     * Move an order from one status to another
+     */
+    public void recordStatusChange(String airportIcaoCode, OrderStatus from, OrderStatus to) {
+        if (from == to) {
+            return;
+        }
+        updateSequence.incrementAndGet();
+        Map<OrderStatus, LongAdder> counters = airportCounters(airportIcaoCode);
+        byStatus.get(from).decrement();
+        byStatus.get(to).increment();
+        counters.get(from).decrement();
+        counters.get(to).increment();
+    }
+
+    /**
+     * Current counts; status totals come from the status counters, the breakdown from the airport counters
+     */
+    public OrderStatistics snapshot() {
+        OrderStatistics statistics = new OrderStatistics();
+        byAirport.forEach((airportIcaoCode, counters) ->
+                counters.forEach((status, counter) -> statistics.addCount(airportIcaoCode, status, counter.sum())));
+
+        statistics.setPendingOrders(byStatus.get(OrderStatus.PENDING).sum());
+        statistics.setConfirmedOrders(byStatus.get(OrderStatus.CONFIRMED).sum());
+        statistics.setCompletedOrders(byStatus.get(OrderStatus.COMPLETED).sum());
+        statistics.setCancelledOrders(byStatus.get(OrderStatus.CANCELLED).sum());
+        statistics.setTotalOrders(byStatus.values().stream().mapToLong(LongAdder::sum).sum());
+        return statistics;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Add database count minus snapshot to each counter
+     */
+    private void applyCorrections(Map<OrderStatus, Long> statusSnapshot, Map<OrderStatus, Long> statusCounts,
+                                  Map<String, Map<OrderStatus, Long>> airportSnapshot,
+                                  Map<String, Map<OrderStatus, Long>> airportCounts) {
+        long drift = 0;
+        int corrected = 0;
+        for (OrderStatus status : OrderStatus.values()) {
+            long delta = correct(byStatus.get(status), statusSnapshot.get(status), statusCounts.getOrDefault(status, 0L));
+            drift += Math.abs(delta);
+            corrected += delta != 0 ? 1 : 0;
+        }
+
+        Set<String> airports = new HashSet<>(airportSnapshot.keySet());
+        airports.addAll(airportCounts.keySet());
+        for (String airportIcaoCode : airports) {
+            Map<OrderStatus, LongAdder> counters = airportCounters(airportIcaoCode);
+            Map<OrderStatus, Long> snapshot = airportSnapshot.getOrDefault(airportIcaoCode, Map.of());
+            Map<OrderStatus, Long> expected = airportCounts.getOrDefault(airportIcaoCode, Map.of());
+            for (OrderStatus status : OrderStatus.values()) {
+                long delta = correct(counters.get(status), snapshot.getOrDefault(status, 0L),
+                        expected.getOrDefault(status, 0L));
+                drift += Math.abs(delta);
+                corrected += delta != 0 ? 1 : 0;
+            }
+        }
+
+        if (ready) {
+            driftSummary.record(drift);
+            correctionCounter.increment(corrected);
+            if (corrected > 0) {
+                logger.warn("Order statistics reconciliation corrected {} counters, total drift {}", corrected, drift);
+            }
+        }
+    }
+
+    private Map<OrderStatus, LongAdder> airportCounters(String airportIcaoCode) {
+        return byAirport.computeIfAbsent(airportIcaoCode, airport -> newStatusCounters());
+    }
+
+    /**
+     * @return the correction applied (expected minus snapshot)
+     */
+    private static long correct(LongAdder counter, long snapshot, long expected) {
+        long delta = expected - snapshot;
+        if (delta != 0) {
+            counter.add(delta);
+        }
+        return delta;
+    }
+
+    private static Map<OrderStatus, Long> sums(Map<OrderStatus, LongAdder> counters) {
+        Map<OrderStatus, Long> sums = new EnumMap<>(OrderStatus.class);
+        counters.forEach((status, counter) -> sums.put(status, counter.sum()));
+        return sums;
+    }
+
+    private static Map<OrderStatus, LongAdder> newStatusCounters() {
+        Map<OrderStatus, LongAdder> counters = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            counters.put(status, new LongAdder());
+        }
+        return counters;
+    }
+}
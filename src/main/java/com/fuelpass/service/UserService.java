@@ -3,12 +3,19 @@ package com.fuelpass.service;
 import com.fuelpass.entity.User;
 import com.fuelpass.entity.UserRole;
 import com.fuelpass.repository.UserRepository;
+import com.fuelpass.security.CustomUserDetailsService;
+import com.fuelpass.security.TokenRevocationList;
+import com.fuelpass.util.ValidationUtil;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -23,7 +30,16 @@ public class UserService {
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
+    @Autowired
+    private EmailBloomFilter emailBloomFilter;
 
     /**
      * Get all users
@@ -54,21 +70,32 @@ public class UserService {
         return userRepository.findByRoleAndIsActiveTrue(role);
     }
 
+    /**
+     * Search active users by email, either by substring or, for autocomplete, by prefix
+     */
+    public List<User> searchUsersByEmail(String query, boolean prefixOnly, int limit) {
+        String escaped = ValidationUtil.escapeLikePattern(query.trim().toLowerCase(Locale.ROOT));
+        String pattern = prefixOnly ? escaped + "%" : "%" + escaped + "%";
+        return userRepository.searchActiveByEmail(pattern, PageRequest.of(0, limit));
+    }
+
     /**
      * Create a new user
      */
     public User createUser(String email, String password, UserRole role) {
-        if (userRepository.existsByEmail(email)) {
+        if (emailExists(email)) {
             throw new RuntimeException("User with email " + email + " already exists");
         }
 
         User user = new User();
         user.setEmail(email);
-        user.setPassword(passwordEncoder.encode(password));
+        user.setPassword(passwordHashingService.encode(password));
         user.setRole(role);
         user.setIsActive(true);
 
-        return userRepository.save(user);
+        User savedUser = saveUniqueEmail(user);
+        emailBloomFilter.put(email);
+        return savedUser;
     }
 
     /**
@@ -76,19 +103,23 @@ public class UserService {
      */
     public User updateUser(UUID userId, UpdateUserRequest request) {
         User user = getUserById(userId);
+        evictPrincipal(user.getEmail());
 
         if (request.getEmail() != null && !request.getEmail().equals(user.getEmail())) {
-            if (userRepository.existsByEmail(request.getEmail())) {
+            if (emailExists(request.getEmail())) {
                 throw new RuntimeException("User with email " + request.getEmail() + " already exists");
             }
             user.setEmail(request.getEmail());
+            emailBloomFilter.put(request.getEmail());
+            tokenRevocationList.revokeUser(userId);
         }
 
-        if (request.getRole() != null) {
+        if (request.getRole() != null && request.getRole() != user.getRole()) {
             user.setRole(request.getRole());
+            tokenRevocationList.revokeUser(userId);
         }
 
-        return userRepository.save(user);
+        return saveUniqueEmail(user);
     }
 
     /**
@@ -98,6 +129,8 @@ public class UserService {
         User user = getUserById(userId);
         user.setIsActive(false);
         userRepository.save(user);
+        evictPrincipal(user.getEmail());
+        tokenRevocationList.revokeUser(userId);
     }
 
     /**
@@ -107,6 +140,8 @@ public class UserService {
         User user = getUserById(userId);
         user.setIsActive(true);
         userRepository.save(user);
+        evictPrincipal(user.getEmail());
+        tokenRevocationList.publishPrincipalChange(userId);
     }
 
     /**
@@ -114,31 +149,81 @@ public class UserService {
      */
     public void changePassword(UUID userId, String newPassword) {
         User user = getUserById(userId);
-        user.setPassword(passwordEncoder.encode(newPassword));
+        user.setPassword(passwordHashingService.encode(newPassword));
         userRepository.save(user);
+        evictPrincipal(user.getEmail());
     }
 
     /**
-     * Get user statistics
+     * Get user statistics from a single grouped count; role counts include active users only
      */
+    @Transactional(readOnly = true)
     public UserStatistics getUserStatistics() {
         UserStatistics statistics = new UserStatistics();
 
-        statistics.setTotalUsers(userRepository.count());
-        statistics.setAircraftOperators(userRepository.countByRoleAndIsActiveTrue(UserRole.AIRCRAFT_OPERATOR));
-        statistics.setOperationsManagers(userRepository.countByRoleAndIsActiveTrue(UserRole.OPERATIONS_MANAGER));
-        statistics.setActiveUsers(userRepository.countByIsActiveTrue());
+        for (Object[] row : userRepository.countByRoleAndActive()) {
+            UserRole role = (UserRole) row[0];
+            boolean active = Boolean.TRUE.equals(row[1]);
+            long count = (Long) row[2];
+
+            statistics.setTotalUsers(statistics.getTotalUsers() + count);
+            if (!active) {
+                continue;
+            }
+            statistics.setActiveUsers(statistics.getActiveUsers() + count);
+            if (role == UserRole.AIRCRAFT_OPERATOR) {
+                statistics.setAircraftOperators(statistics.getAircraftOperators() + count);
+            } else if (role == UserRole.OPERATIONS_MANAGER) {
+                statistics.setOperationsManagers(statistics.getOperationsManagers() + count);
+            }
+        }
 
         return statistics;
     }
 
     /**
-     * Check if email exists
+     * Check if email exists; definitely-absent emails are answered by the email filter without a query.
+     * A negative answer refreshes the filter first when it is stale, and a concurrent registration that
+     * slips past is still caught by the unique constraint in saveUniqueEmail.
      */
     public boolean emailExists(String email) {
+        if (!emailBloomFilter.mightContain(email)) {
+            return false;
+        }
         return userRepository.existsByEmail(email);
     }
 
+    /**
+     * Save and flush, turning a race on the unique email constraint into the duplicate-email error
+     */
+    private User saveUniqueEmail(User user) {
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            String detail = e.getMostSpecificCause().getMessage();
+            if (detail != null && detail.toLowerCase(Locale.ROOT).contains("(email)")) {
+                throw new RuntimeException("User with email " + user.getEmail() + " already exists");
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Evict the cached principal now and again after commit, so a request racing
+     * the transaction cannot re-cache the pre-commit state
+     */
+    private void evictPrincipal(String email) {
+        userDetailsService.evict(email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userDetailsService.evict(email);
+                }
+            });
+        }
+    }
+
     // DTOs
     public static class UpdateUserRequest {
         private String name;
@@ -0,0 +1,136 @@
+package com.fuelpass.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility class for RFC 4180 CSV reading and writing
+ */
+public class CsvUtil {
+
+    private static final String FORMULA_TRIGGERS = "=+-@\t\r";
+
+    private CsvUtil() {}
+
+    /**
+     * Format a field; quoted only when it contains a delimiter, quote or line break, and empty for null
+     */
+    public static String field(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Format a user-supplied text field for files that may be opened in a spreadsheet.
+     * Text starting with a formula trigger (=, +, -, @, tab or carriage return) is prefixed with
+     * a single quote so it is shown as text instead of being evaluated.
+     */
+    public static String textField(String value) {
+        if (value != null && !value.isEmpty() && FORMULA_TRIGGERS.indexOf(value.charAt(0)) >= 0) {
+            return field("'" + value);
+        }
+        return field(value);
+    }
+
+    /**
+     * Reads one record at a time, so input of any size is parsed in constant memory.
+     * Quoted fields may contain delimiters, doubled quotes and line breaks.
+     */
+    public static class RecordReader {
+
+        private final Reader reader;
+        private int peeked = -2;
+        private long line = 1;
+        private long recordLine;
+
+        /**
+         * @param reader should be buffered; it is read one character at a time
+         */
+        public RecordReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * @return the fields of the next record, or null at end of input
+         * @throws IllegalArgumentException if a quoted field is not terminated
+         */
+        public List<String> readRecord() throws IOException {
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            recordLine = line;
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException("Unterminated quoted field starting on line " + recordLine);
+                    }
+                    if (c == '"') {
+                        if (peek() == '"') {
+                            read();
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r' && peek() == '\n') {
+                        read();
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                } else {
+                    field.append((char) c);
+                }
+                c = read();
+            }
+        }
+
+        /**
+         * Line number on which the last record returned by {@link #readRecord()} started
+         */
+        public long getRecordLine() {
+            return recordLine;
+        }
+
+        private int read() throws IOException {
+            int c;
+            if (peeked != -2) {
+                c = peeked;
+                peeked = -2;
+            } else {
+                c = reader.read();
+            }
+            if (c == '\n') {
+                line++;
+            }
+            return c;
+        }
+
+        private int peek() throws IOException {
+            if (peeked == -2) {
+                peeked = reader.read();
+            }
+            return peeked;
+        }
+    }
+}
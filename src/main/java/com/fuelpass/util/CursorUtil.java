@@ -0,0 +1,57 @@
+package com.fuelpass.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Utility class for encoding keyset pagination cursors.
+ *
+ * A cursor is the (createdAt, id) position of the last row of a page, encoded as
+ * URL-safe base64 so clients treat it as opaque.
+ */
+public class CursorUtil {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Encode the position of the last row returned
+     */
+    public static String encode(LocalDateTime createdAt, UUID id) {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor previously produced by {@link #encode}
+     *
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static Position decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new Position(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Decoded cursor position
+     */
+    public static class Position {
+        private final LocalDateTime createdAt;
+        private final UUID id;
+
+        public Position(LocalDateTime createdAt, UUID id) {
+            this.createdAt = createdAt;
+            this.id = id;
+        }
+
+        public LocalDateTime getCreatedAt() { return createdAt; }
+        public UUID getId() { return id; }
+    }
+}
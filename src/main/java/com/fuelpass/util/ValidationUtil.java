@@ -113,6 +113,14 @@ public class ValidationUtil {
         return input.trim().replaceAll("[<>\"'&]", "");
     }
 
+    /**
+     * Escape LIKE wildcards so user input is matched literally; use with ESCAPE '!'
+     */
+    public static String escapeLikePattern(String input) {
+        if (input == null) return null;
+        return input.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
     /**
      * Validate pagination parameters
      */
@@ -0,0 +1,51 @@
+-- Baseline schema for users and fuel orders, matching the JPA entities.
+-- Written idempotently so it also applies to databases created before Flyway
+-- (spring.flyway.baseline-version is 0, so this script runs on those too).
+
+CREATE TABLE IF NOT EXISTS users (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    email VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    role VARCHAR(20) NOT NULL,
+    is_active BOOLEAN NOT NULL DEFAULT true,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS fuel_orders (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    tail_number VARCHAR(10) NOT NULL,
+    airport_icao_code VARCHAR(4) NOT NULL,
+    requested_fuel_volume DOUBLE PRECISION NOT NULL,
+    delivery_time_window_start TIMESTAMP NOT NULL,
+    delivery_time_window_end TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    created_by UUID NOT NULL REFERENCES users(id),
+    notes VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_role ON users(role);
+
+CREATE INDEX IF NOT EXISTS idx_fuel_order_tail_number ON fuel_orders(tail_number);
+CREATE INDEX IF NOT EXISTS idx_fuel_order_created_at ON fuel_orders(created_at);
+
+-- Composite indexes follow FuelOrderRepository access paths: filter columns first, then the created_at sort
+-- findByCreatedById / my-orders, including the (created_at, id) keyset
+CREATE INDEX IF NOT EXISTS idx_fuel_order_created_by_created_at ON fuel_orders(created_by, created_at DESC, id DESC);
+-- airport + status filters (and airport alone via the leading column)
+CREATE INDEX IF NOT EXISTS idx_fuel_order_airport_status_created_at ON fuel_orders(airport_icao_code, status, created_at DESC);
+-- findByStatus
+CREATE INDEX IF NOT EXISTS idx_fuel_order_status_created_at ON fuel_orders(status, created_at DESC);
+-- Open orders are the small, hot subset of the table
+CREATE INDEX IF NOT EXISTS idx_fuel_order_open_created_at ON fuel_orders(created_at DESC) WHERE status IN ('PENDING', 'CONFIRMED');
+-- findByDeliveryTimeWindow
+CREATE INDEX IF NOT EXISTS idx_fuel_order_delivery_window ON fuel_orders(delivery_time_window_start, delivery_time_window_end);
+
+-- Substring search (LIKE '%x%') needs trigram GIN indexes; prefix search uses pattern-ops B-trees
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_fuel_order_tail_number_trgm ON fuel_orders USING gin (tail_number gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_fuel_order_tail_number_prefix ON fuel_orders(tail_number varchar_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_user_email_trgm ON users USING gin (lower(email) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_user_email_prefix ON users(lower(email) text_pattern_ops);
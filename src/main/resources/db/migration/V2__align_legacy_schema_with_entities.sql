@@ -0,0 +1,16 @@
+-- Databases created by the old startup DDL drifted from the entities.
+
+-- updated_by was declared NOT NULL but FuelOrder never writes it, so inserts could not succeed
+ALTER TABLE fuel_orders DROP COLUMN IF EXISTS updated_by;
+
+-- FuelOrder maps these as Double and a 500-character string
+ALTER TABLE fuel_orders ALTER COLUMN requested_fuel_volume TYPE DOUBLE PRECISION;
+ALTER TABLE fuel_orders ALTER COLUMN notes TYPE VARCHAR(500);
+
+-- Single-column indexes covered by the leading columns of the composite indexes
+DROP INDEX IF EXISTS idx_fuel_order_created_by;
+DROP INDEX IF EXISTS idx_fuel_order_airport;
+DROP INDEX IF EXISTS idx_fuel_order_status;
+
+-- Duplicates the unique constraint on users.email
+DROP INDEX IF EXISTS idx_user_email;
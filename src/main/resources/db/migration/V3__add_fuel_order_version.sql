@@ -0,0 +1,2 @@
+-- Optimistic locking column for FuelOrder; conditional status updates bump it as well
+ALTER TABLE fuel_orders ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,85 @@
+-- Range-partition fuel_orders by month on created_at.
+-- Recent-order queries (created_at DESC, keyset cursors, date filters) then touch only the newest
+-- partitions, and each partition's indexes stay bounded. Rows are copied in this migration, which
+-- holds an exclusive lock on fuel_orders until it commits; run it in a maintenance window.
+
+-- Creates the monthly partitions from from_month through months_ahead months after the current one.
+-- Called by this migration and daily by FuelOrderPartitionMaintenance; safe to run concurrently.
+CREATE OR REPLACE FUNCTION create_fuel_order_partitions(from_month DATE, months_ahead INTEGER)
+RETURNS INTEGER
+LANGUAGE plpgsql
+SET lock_timeout = '5s'
+AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::date;
+    last_month DATE := (date_trunc('month', CURRENT_DATE) + make_interval(months => months_ahead))::date;
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        partition_name := format('fuel_orders_p%s', to_char(month_start, 'YYYY_MM'));
+        IF to_regclass(partition_name) IS NULL THEN
+            BEGIN
+                EXECUTE format('CREATE TABLE %I PARTITION OF fuel_orders FOR VALUES FROM (%L) TO (%L)',
+                               partition_name, month_start, (month_start + INTERVAL '1 month')::date);
+                created := created + 1;
+            EXCEPTION WHEN duplicate_table THEN
+                -- Another node created it first
+                NULL;
+            END;
+        END IF;
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+
+ALTER TABLE fuel_orders RENAME TO fuel_orders_unpartitioned;
+ALTER INDEX IF EXISTS fuel_orders_pkey RENAME TO fuel_orders_unpartitioned_pkey;
+
+-- The partition key must be part of the primary key; ids are still generated unique per order
+CREATE TABLE fuel_orders (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    tail_number VARCHAR(10) NOT NULL,
+    airport_icao_code VARCHAR(4) NOT NULL,
+    requested_fuel_volume DOUBLE PRECISION NOT NULL,
+    delivery_time_window_start TIMESTAMP NOT NULL,
+    delivery_time_window_end TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    created_by UUID NOT NULL REFERENCES users(id),
+    notes VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT fuel_orders_pkey PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- One partition per month from the oldest existing order, plus three months ahead
+SELECT create_fuel_order_partitions(
+        COALESCE((SELECT min(created_at) FROM fuel_orders_unpartitioned)::date, CURRENT_DATE), 3);
+
+-- Catches rows outside the monthly partitions, e.g. imports dated after the pre-created months
+CREATE TABLE fuel_orders_default PARTITION OF fuel_orders DEFAULT;
+
+INSERT INTO fuel_orders (id, tail_number, airport_icao_code, requested_fuel_volume,
+                         delivery_time_window_start, delivery_time_window_end, status,
+                         created_by, notes, created_at, updated_at, version)
+SELECT id, tail_number, airport_icao_code, requested_fuel_volume,
+       delivery_time_window_start, delivery_time_window_end, status,
+       created_by, notes, created_at, updated_at, version
+FROM fuel_orders_unpartitioned;
+
+DROP TABLE fuel_orders_unpartitioned;
+
+-- Indexes on the parent are created on every partition, including future ones (same set as V1/V2)
+CREATE INDEX idx_fuel_order_tail_number ON fuel_orders(tail_number);
+CREATE INDEX idx_fuel_order_created_at ON fuel_orders(created_at);
+CREATE INDEX idx_fuel_order_created_by_created_at ON fuel_orders(created_by, created_at DESC, id DESC);
+CREATE INDEX idx_fuel_order_airport_status_created_at ON fuel_orders(airport_icao_code, status, created_at DESC);
+CREATE INDEX idx_fuel_order_status_created_at ON fuel_orders(status, created_at DESC);
+CREATE INDEX idx_fuel_order_open_created_at ON fuel_orders(created_at DESC) WHERE status IN ('PENDING', 'CONFIRMED');
+CREATE INDEX idx_fuel_order_delivery_window ON fuel_orders(delivery_time_window_start, delivery_time_window_end);
+CREATE INDEX idx_fuel_order_tail_number_trgm ON fuel_orders USING gin (tail_number gin_trgm_ops);
+CREATE INDEX idx_fuel_order_tail_number_prefix ON fuel_orders(tail_number varchar_pattern_ops);
+
+ANALYZE fuel_orders;
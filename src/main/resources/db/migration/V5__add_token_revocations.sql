@@ -0,0 +1,14 @@
+-- Token revocations shared by every node; each node mirrors unexpired rows in TokenRevocationList.
+-- A row revokes either one token (token_id) or every token issued to a user before revoked_at (user_id).
+CREATE TABLE IF NOT EXISTS token_revocations (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    user_id UUID,
+    token_id VARCHAR(64),
+    revoked_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    CONSTRAINT chk_token_revocation_target CHECK (user_id IS NOT NULL OR token_id IS NOT NULL)
+);
+
+-- Incremental sync reads recent revocations; the purge deletes expired ones
+CREATE INDEX IF NOT EXISTS idx_token_revocation_revoked_at ON token_revocations(revoked_at);
+CREATE INDEX IF NOT EXISTS idx_token_revocation_expires_at ON token_revocations(expires_at);
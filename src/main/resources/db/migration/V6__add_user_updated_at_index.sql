@@ -0,0 +1,2 @@
+-- EmailBloomFilter refreshes from users changed since its last refresh, now before any negative answer
+CREATE INDEX IF NOT EXISTS idx_user_updated_at ON users(updated_at);
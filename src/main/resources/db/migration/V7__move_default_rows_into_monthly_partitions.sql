@@ -0,0 +1,50 @@
+-- Monthly partitions could not be created for a month that already had rows in fuel_orders_default
+-- (e.g. imported history): CREATE TABLE ... PARTITION OF fails with check_violation, and the daily
+-- job failed the same way every run. Each missing month is now built as a standalone table, the
+-- month's rows are moved into it from the default partition, and it is attached in their place.
+-- A month that still fails (lock timeout, ...) is reported with a warning and skipped, so the
+-- remaining months are created and the month is retried on the next call.
+CREATE OR REPLACE FUNCTION create_fuel_order_partitions(from_month DATE, months_ahead INTEGER)
+RETURNS INTEGER
+LANGUAGE plpgsql
+SET lock_timeout = '5s'
+AS $$
+DECLARE
+    month_start DATE := date_trunc('month', from_month)::date;
+    last_month DATE := (date_trunc('month', CURRENT_DATE) + make_interval(months => months_ahead))::date;
+    month_end DATE;
+    partition_name TEXT;
+    created INTEGER := 0;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        month_end := (month_start + INTERVAL '1 month')::date;
+        partition_name := format('fuel_orders_p%s', to_char(month_start, 'YYYY_MM'));
+        IF to_regclass(partition_name) IS NULL THEN
+            BEGIN
+                EXECUTE format('CREATE TABLE %I (LIKE fuel_orders INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                               partition_name);
+                EXECUTE format('WITH moved AS (DELETE FROM fuel_orders_default '
+                               'WHERE created_at >= %L AND created_at < %L RETURNING *) '
+                               'INSERT INTO %I SELECT * FROM moved',
+                               month_start, month_end, partition_name);
+                -- Attaching creates the parent's primary key and indexes on the new partition
+                EXECUTE format('ALTER TABLE fuel_orders ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                               partition_name, month_start, month_end);
+                created := created + 1;
+            EXCEPTION
+                WHEN duplicate_table THEN
+                    -- Another node created it first
+                    NULL;
+                WHEN OTHERS THEN
+                    RAISE WARNING 'Could not create partition %: % (%)', partition_name, SQLERRM, SQLSTATE;
+            END;
+        END IF;
+        month_start := month_end;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+
+-- Give rows already stranded in the default partition their monthly partitions
+SELECT create_fuel_order_partitions(
+        COALESCE((SELECT min(created_at) FROM fuel_orders_default)::date, CURRENT_DATE), 3);
@@ -0,0 +1,3 @@
+-- Rows that only tell other nodes to drop a user's cached principal (e.g. after reactivation)
+-- without revoking any token. They expire once every cached principal would have anyway.
+ALTER TABLE token_revocations ADD COLUMN IF NOT EXISTS principal_only BOOLEAN NOT NULL DEFAULT FALSE;
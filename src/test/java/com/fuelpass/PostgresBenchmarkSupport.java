@@ -0,0 +1,127 @@
+package com.fuelpass;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base for the timing harnesses that run the application against a real PostgreSQL database.
+ *
+ * Every subclass shares one container, started on first use and removed when the JVM exits, so the
+ * Spring context built on it is cached across benchmark classes. Benchmarks log their numbers and
+ * assert only orderings that hold on any machine; they are skipped without Docker.
+ */
+@SpringBootTest
+@ActiveProfiles("dev")
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresBenchmarkSupport {
+
+    protected static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        // No-op once running
+        postgres.start();
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    /**
+     * Bulk-load orders with SQL until at least the given number exist: one every five minutes going
+     * back from now, over 52 airports and 20,000 tail numbers, about 2% of them still open
+     */
+    protected void ensureOrders(int count) {
+        long existing = jdbcTemplate.queryForObject("SELECT count(*) FROM fuel_orders", Long.class);
+        if (existing >= count) {
+            return;
+        }
+        long days = count * 5L / 1440 + 31;
+        jdbcTemplate.queryForObject("SELECT create_fuel_order_partitions((CURRENT_DATE - ?::int)::date, 3)",
+                Integer.class, days);
+        jdbcTemplate.update("""
+                INSERT INTO fuel_orders (tail_number, airport_icao_code, requested_fuel_volume,
+                                         delivery_time_window_start, delivery_time_window_end, status,
+                                         created_by, created_at, updated_at)
+                SELECT 'N' || lpad((i % 20000)::text, 5, '0'),
+                       'KA' || chr(65 + i % 26) || chr(65 + (i / 26) % 2),
+                       1000,
+                       o.created_at + INTERVAL '1 day', o.created_at + INTERVAL '1 day 2 hours',
+                       CASE i % 100 WHEN 0 THEN 'PENDING' WHEN 1 THEN 'CONFIRMED'
+                                    WHEN 2 THEN 'CANCELLED' ELSE 'COMPLETED' END,
+                       (SELECT id FROM users WHERE email = 'operator@fuelpass.com'),
+                       o.created_at, o.created_at
+                FROM generate_series(?, ?) i
+                CROSS JOIN LATERAL (SELECT date_trunc('second', now())::timestamp
+                                           - i * INTERVAL '5 minutes' AS created_at) o""", existing + 1, (long) count);
+        jdbcTemplate.execute("ANALYZE fuel_orders");
+    }
+
+    /**
+     * Average time and bytes allocated by the calling thread per operation, after a warmup
+     */
+    protected static Measurement measure(int warmupIterations, int measuredIterations, Callable<?> operation) throws Exception {
+        for (int i = 0; i < warmupIterations; i++) {
+            operation.call();
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < measuredIterations; i++) {
+            operation.call();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        return new Measurement(elapsed / 1_000 / measuredIterations, allocated / measuredIterations);
+    }
+
+    /**
+     * Operations per second completed by the given number of threads calling the operation in a loop
+     */
+    protected static double throughput(int threadCount, Duration duration, Callable<?> operation) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            AtomicLong completed = new AtomicLong();
+            long deadline = System.nanoTime() + duration.toNanos();
+            long startedAt = System.nanoTime();
+            List<Future<?>> workers = new ArrayList<>(threadCount);
+            for (int i = 0; i < threadCount; i++) {
+                workers.add(executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        operation.call();
+                        completed.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            return completed.get() * 1_000_000_000.0 / (System.nanoTime() - startedAt);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    protected record Measurement(long micros, long bytes) {}
+}
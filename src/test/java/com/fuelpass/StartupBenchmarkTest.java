@@ -0,0 +1,81 @@
+package com.fuelpass;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Application startup time with Flyway owning the schema and Hibernate only validating it.
+ *
+ * Boots the full application twice against a fresh database in the shared benchmark container:
+ * once applying every migration, then again with nothing left to apply, which is the normal
+ * restart path. Times run from SpringApplication.run until the context is ready; the restart
+ * reuses classes the first run loaded, so it understates a cold restart. Numbers are logged;
+ * only the absence of migrations on the restart is asserted.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class StartupBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupBenchmarkTest.class);
+
+    private static final String DATABASE = "startup_benchmark";
+
+    @Test
+    void startupWithMigrationsAndOnRestart() throws Exception {
+        PostgresBenchmarkSupport.postgres.start();
+        execute("DROP DATABASE IF EXISTS " + DATABASE);
+        execute("CREATE DATABASE " + DATABASE);
+        String url = PostgresBenchmarkSupport.postgres.getJdbcUrl().replaceFirst("/[^/?]+(\\?|$)", "/" + DATABASE + "$1");
+
+        long firstStart = timeStartup(url);
+        int appliedMigrations = countMigrations(url);
+        long restart = timeStartup(url);
+
+        logger.info("Startup on an empty database ({} migrations applied): {} ms", appliedMigrations, firstStart);
+        logger.info("Restart with the schema up to date:                  {} ms", restart);
+        assertThat(countMigrations(url)).isEqualTo(appliedMigrations);
+    }
+
+    private long timeStartup(String url) {
+        long startedAt = System.nanoTime();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(FuelPassApplication.class)
+                .profiles("dev")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + url,
+                        "spring.datasource.username=" + PostgresBenchmarkSupport.postgres.getUsername(),
+                        "spring.datasource.password=" + PostgresBenchmarkSupport.postgres.getPassword())
+                .run()) {
+            return (System.nanoTime() - startedAt) / 1_000_000;
+        }
+    }
+
+    private static int countMigrations(String url) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(url,
+                PostgresBenchmarkSupport.postgres.getUsername(), PostgresBenchmarkSupport.postgres.getPassword());
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT count(*) FROM flyway_schema_history WHERE success")) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private static void execute(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(PostgresBenchmarkSupport.postgres.getJdbcUrl(),
+                PostgresBenchmarkSupport.postgres.getUsername(), PostgresBenchmarkSupport.postgres.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
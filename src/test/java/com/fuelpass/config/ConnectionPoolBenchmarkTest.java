@@ -0,0 +1,72 @@
+package com.fuelpass.config;
+
+import com.fuelpass.PostgresBenchmarkSupport;
+import com.fuelpass.service.FuelOrderService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Listing throughput with the pooled Hikari DataSource compared with the DriverManagerDataSource
+ * it replaced, which opened a physical connection per transaction.
+ *
+ * Both run the same 20-row listing query from 16 threads; the pool also serves the full
+ * service path. Numbers are logged; only the pooled/unpooled ordering is asserted.
+ */
+class ConnectionPoolBenchmarkTest extends PostgresBenchmarkSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolBenchmarkTest.class);
+
+    private static final int THREADS = 16;
+    private static final Duration WARMUP = Duration.ofSeconds(2);
+    private static final Duration MEASURED = Duration.ofSeconds(10);
+
+    private static final String LISTING_SQL = "SELECT id, tail_number, airport_icao_code, status, created_at "
+            + "FROM fuel_orders ORDER BY created_at DESC, id DESC LIMIT 20";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private FuelOrderService fuelOrderService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void pooledListingOutperformsConnectionPerRequest() throws Exception {
+        assertThat(dataSource).isInstanceOf(HikariDataSource.class);
+        JdbcTemplate pooled = new JdbcTemplate(dataSource);
+        JdbcTemplate unpooled = new JdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+
+        throughput(THREADS, WARMUP, () -> pooled.queryForList(LISTING_SQL));
+        double pooledRate = throughput(THREADS, MEASURED, () -> pooled.queryForList(LISTING_SQL));
+        throughput(THREADS, WARMUP, () -> unpooled.queryForList(LISTING_SQL));
+        double unpooledRate = throughput(THREADS, MEASURED, () -> unpooled.queryForList(LISTING_SQL));
+        double serviceRate = throughput(THREADS, MEASURED, () ->
+                fuelOrderService.getOrders(null, null, null, false, null, 0, 20, "createdAt", "desc"));
+
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").timer();
+        logger.info("{} threads, listing query, Hikari pool:            {} req/s", THREADS, Math.round(pooledRate));
+        logger.info("{} threads, listing query, connection per request: {} req/s", THREADS, Math.round(unpooledRate));
+        logger.info("{} threads, FuelOrderService.getOrders on the pool: {} req/s", THREADS, Math.round(serviceRate));
+        if (acquire != null) {
+            logger.info("Pool acquire: {} calls, mean {} us, max {} us", acquire.count(),
+                    Math.round(acquire.mean(TimeUnit.MICROSECONDS)), Math.round(acquire.max(TimeUnit.MICROSECONDS)));
+        }
+        assertThat(pooledRate).isGreaterThan(unpooledRate);
+    }
+}
@@ -0,0 +1,119 @@
+package com.fuelpass.config;
+
+import com.fuelpass.PostgresBenchmarkSupport;
+import com.fuelpass.entity.FuelOrder;
+import com.fuelpass.entity.User;
+import com.fuelpass.repository.FuelOrderRepository;
+import com.fuelpass.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lookup latency with the opt-in second-level cache: a login's user by email (natural id) and an
+ * order by id, served from the cache regions and again with the cache ignored for the session.
+ *
+ * Runs in its own context with entity-cache.enabled=true. Hit and miss counts come from Hibernate
+ * statistics. Numbers are logged; only that cached lookups are faster is asserted.
+ */
+@TestPropertySource(properties = "entity-cache.enabled=true")
+class EntityCacheBenchmarkTest extends PostgresBenchmarkSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(EntityCacheBenchmarkTest.class);
+
+    private static final int WARMUP_ITERATIONS = 1_000;
+    private static final int MEASURED_ITERATIONS = 5_000;
+    private static final String EMAIL = "operator@fuelpass.com";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FuelOrderRepository fuelOrderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    private UUID orderId;
+
+    @BeforeEach
+    void createOrder() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        User operator = userRepository.findByEmail(EMAIL).orElseThrow();
+        FuelOrder order = new FuelOrder();
+        order.setTailNumber("N40000");
+        order.setAirportIcaoCode("KJFK");
+        order.setRequestedFuelVolume(1000.0);
+        order.setDeliveryTimeWindowStart(LocalDateTime.now().plusDays(1));
+        order.setDeliveryTimeWindowEnd(LocalDateTime.now().plusDays(1).plusHours(2));
+        order.setCreatedBy(operator);
+        orderId = fuelOrderRepository.save(order).getId();
+    }
+
+    @Test
+    void cachedLookupsAgainstDatabase() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Measurement userCached = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () -> lookup(CacheMode.NORMAL,
+                () -> userRepository.findByEmail(EMAIL).orElseThrow()));
+        long userHits = statistics.getSecondLevelCacheHitCount() + statistics.getNaturalIdCacheHitCount();
+        Measurement userUncached = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () -> lookup(CacheMode.IGNORE,
+                () -> userRepository.findByEmail(EMAIL).orElseThrow()));
+        Measurement orderCached = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () -> lookup(CacheMode.NORMAL,
+                () -> fuelOrderRepository.findById(orderId).orElseThrow()));
+        Measurement orderUncached = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () -> lookup(CacheMode.IGNORE,
+                () -> fuelOrderRepository.findById(orderId).orElseThrow()));
+
+        logger.info("User by email, cached:   {} us/op ({} cache hits)", userCached.micros(), userHits);
+        logger.info("User by email, database: {} us/op", userUncached.micros());
+        logger.info("Order by id, cached:     {} us/op", orderCached.micros());
+        logger.info("Order by id, database:   {} us/op", orderUncached.micros());
+        logger.info("Second-level cache: {} hits, {} misses, {} puts", statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(), statistics.getSecondLevelCachePutCount());
+        assertThat(userCached.micros()).isLessThan(userUncached.micros());
+        assertThat(orderCached.micros()).isLessThan(orderUncached.micros());
+    }
+
+    /**
+     * Run the lookup in its own read-only transaction, so each call starts with an empty persistence context
+     */
+    private Object lookup(CacheMode cacheMode, Callable<?> operation) {
+        return readOnlyTransaction.execute(status -> {
+            entityManager.unwrap(Session.class).setCacheMode(cacheMode);
+            try {
+                return operation.call();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,127 @@
+package com.fuelpass.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fuelpass.dto.response.FuelOrderView;
+import com.fuelpass.entity.OrderStatus;
+import com.fuelpass.entity.UserRole;
+import com.fuelpass.exception.GlobalExceptionHandler;
+import com.fuelpass.repository.FuelOrderRepository;
+import com.fuelpass.security.AuthenticatedUser;
+import com.fuelpass.security.AuthenticatedUserArgumentResolver;
+import com.fuelpass.service.FuelOrderExportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class FuelOrderControllerExportTest {
+
+    private static final int MAX_CONCURRENT_EXPORTS = 2;
+
+    private final FuelOrderRepository fuelOrderRepository = mock(FuelOrderRepository.class);
+
+    private FuelOrderExportService exportService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new FuelOrderExportService();
+        ReflectionTestUtils.setField(exportService, "fuelOrderRepository", fuelOrderRepository);
+        ReflectionTestUtils.setField(exportService, "objectMapper", new ObjectMapper().registerModule(new JavaTimeModule()));
+        ReflectionTestUtils.setField(exportService, "fetchSize", 500);
+        ReflectionTestUtils.setField(exportService, "maxConcurrentExports", MAX_CONCURRENT_EXPORTS);
+        ReflectionTestUtils.invokeMethod(exportService, "initSlots");
+
+        FuelOrderController controller = new FuelOrderController();
+        ReflectionTestUtils.setField(controller, "fuelOrderExportService", exportService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(new AuthenticatedUserArgumentResolver())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        AuthenticatedUser manager = new AuthenticatedUser(UUID.randomUUID(), "ops@fuelpass.com",
+                UserRole.OPERATIONS_MANAGER, true);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(manager, null, manager.getAuthorities()));
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void streamsCsvAndReleasesSlot() throws Exception {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 1, 8, 30);
+        UUID orderId = UUID.randomUUID();
+        when(fuelOrderRepository.streamViews(any(), any(), anyInt())).thenAnswer(invocation -> Stream.of(
+                new FuelOrderView(orderId, "N12345", "KJFK", 1500.0, createdAt.plusDays(1),
+                        createdAt.plusDays(1).plusHours(2), OrderStatus.PENDING, "=cmd", UUID.randomUUID(),
+                        createdAt, createdAt)));
+
+        MvcResult started = mockMvc.perform(get("/fuel-orders/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"fuel-orders.csv\""))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\r?\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("id,tailNumber,airportIcaoCode");
+        assertThat(lines[1]).startsWith(orderId + ",N12345,KJFK,").contains(",'=cmd,");
+        assertThat(exportService.getActiveExports()).isZero();
+    }
+
+    @Test
+    void rejectsUnsupportedFormatWithoutTakingSlot() throws Exception {
+        mockMvc.perform(get("/fuel-orders/export").param("format", "xlsx"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(exportService.getActiveExports()).isZero();
+    }
+
+    @Test
+    void returnsServiceUnavailableWhenAllSlotsAreTaken() throws Exception {
+        List<FuelOrderExportService.ExportSlot> held = new ArrayList<>();
+        for (int i = 0; i < MAX_CONCURRENT_EXPORTS; i++) {
+            held.add(exportService.reserveSlot());
+        }
+
+        mockMvc.perform(get("/fuel-orders/export"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"));
+
+        held.forEach(FuelOrderExportService.ExportSlot::release);
+        held.forEach(FuelOrderExportService.ExportSlot::release);
+        assertThat(exportService.getActiveExports()).isZero();
+    }
+}
@@ -0,0 +1,85 @@
+package com.fuelpass.controller;
+
+import com.fuelpass.entity.OrderStatus;
+import com.fuelpass.entity.UserRole;
+import com.fuelpass.exception.GlobalExceptionHandler;
+import com.fuelpass.repository.FuelOrderRepository;
+import com.fuelpass.security.AuthenticatedUser;
+import com.fuelpass.security.AuthenticatedUserArgumentResolver;
+import com.fuelpass.service.FuelOrderService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class FuelOrderControllerStatusTest {
+
+    private final FuelOrderRepository fuelOrderRepository = mock(FuelOrderRepository.class);
+
+    private final UUID orderId = UUID.randomUUID();
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        FuelOrderService fuelOrderService = new FuelOrderService();
+        ReflectionTestUtils.setField(fuelOrderService, "fuelOrderRepository", fuelOrderRepository);
+
+        FuelOrderController controller = new FuelOrderController();
+        ReflectionTestUtils.setField(controller, "fuelOrderService", fuelOrderService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(new AuthenticatedUserArgumentResolver())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        AuthenticatedUser manager = new AuthenticatedUser(UUID.randomUUID(), "manager@fuelpass.com",
+                UserRole.OPERATIONS_MANAGER, true);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(manager, null, manager.getAuthorities()));
+
+        when(fuelOrderRepository.transitionStatus(eq(orderId), any(), any())).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void invalidTransitionIsBadRequest() throws Exception {
+        when(fuelOrderRepository.findStatusById(orderId)).thenReturn(Optional.of(OrderStatus.COMPLETED));
+
+        mockMvc.perform(patch("/fuel-orders/{orderId}/status", orderId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"newStatus\":\"CONFIRMED\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(
+                        "Failed to update order status: Invalid status transition from COMPLETED to CONFIRMED"));
+    }
+
+    @Test
+    void unknownOrderIsNotFound() throws Exception {
+        when(fuelOrderRepository.findStatusById(orderId)).thenReturn(Optional.empty());
+
+        mockMvc.perform(patch("/fuel-orders/{orderId}/status", orderId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"newStatus\":\"CONFIRMED\"}"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,21 @@
+package com.fuelpass.entity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserTest {
+
+    @Test
+    void passwordHashIsNotSerialized() throws Exception {
+        User user = new User("operator@fuelpass.com", "$2a$10$abcdefghijklmnopqrstuv", UserRole.AIRCRAFT_OPERATOR);
+
+        JsonNode json = new ObjectMapper().registerModule(new JavaTimeModule()).valueToTree(user);
+
+        assertThat(json.has("password")).isFalse();
+        assertThat(json.get("email").asText()).isEqualTo("operator@fuelpass.com");
+    }
+}
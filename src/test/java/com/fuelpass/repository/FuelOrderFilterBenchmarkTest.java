@@ -0,0 +1,78 @@
+package com.fuelpass.repository;
+
+import com.fuelpass.PostgresBenchmarkSupport;
+import com.fuelpass.entity.OrderStatus;
+import com.fuelpass.service.FuelOrderService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency of the filtered order listing: the catch-all '(? IS NULL OR col = ?)' query that
+ * findWithFilters used, compared with the predicate-per-filter SQL FuelOrderSpecifications emits.
+ *
+ * Both run as server-prepared statements over 100,000 orders, so PostgreSQL may settle on a generic
+ * plan for the catch-all shape. The plans are logged next to the timings; the two shapes are only
+ * checked to return the same rows.
+ */
+class FuelOrderFilterBenchmarkTest extends PostgresBenchmarkSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(FuelOrderFilterBenchmarkTest.class);
+
+    private static final int ORDER_COUNT = 100_000;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 1_000;
+
+    private static final String CATCH_ALL_SQL = """
+            SELECT id FROM fuel_orders
+            WHERE (?::varchar IS NULL OR airport_icao_code = ?::varchar)
+              AND (?::varchar IS NULL OR status = ?::varchar)
+              AND (?::varchar IS NULL OR tail_number LIKE ?::varchar)
+            ORDER BY created_at DESC, id DESC LIMIT 20""";
+
+    private static final String SPECIFIC_SQL = """
+            SELECT id FROM fuel_orders
+            WHERE airport_icao_code = ? AND status = ?
+            ORDER BY created_at DESC, id DESC LIMIT 20""";
+
+    @Autowired
+    private FuelOrderService fuelOrderService;
+
+    @BeforeEach
+    void loadOrders() {
+        ensureOrders(ORDER_COUNT);
+    }
+
+    @Test
+    void specificPredicatesAgainstCatchAll() throws Exception {
+        Object[] catchAllArgs = {"KABA", "KABA", "CANCELLED", "CANCELLED", null, null};
+        Object[] specificArgs = {"KABA", "CANCELLED"};
+        assertThat(jdbcTemplate.queryForList(SPECIFIC_SQL, UUID.class, specificArgs))
+                .isEqualTo(jdbcTemplate.queryForList(CATCH_ALL_SQL, UUID.class, catchAllArgs));
+
+        Measurement catchAll = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () ->
+                jdbcTemplate.queryForList(CATCH_ALL_SQL, UUID.class, catchAllArgs));
+        Measurement specific = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () ->
+                jdbcTemplate.queryForList(SPECIFIC_SQL, UUID.class, specificArgs));
+        Measurement service = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () ->
+                fuelOrderService.getOrders("KABA", OrderStatus.CANCELLED, null, false, null, 0, 20, "createdAt", "desc"));
+
+        logger.info("Airport + status over {} orders, catch-all SQL:      {} us/op", ORDER_COUNT, catchAll.micros());
+        logger.info("Airport + status over {} orders, specification SQL:  {} us/op", ORDER_COUNT, specific.micros());
+        logger.info("Airport + status over {} orders, getOrders (+count): {} us/op", ORDER_COUNT, service.micros());
+        logger.info("Catch-all plan:\n{}", explain(CATCH_ALL_SQL, catchAllArgs));
+        logger.info("Specification plan:\n{}", explain(SPECIFIC_SQL, specificArgs));
+    }
+
+    private String explain(String sql, Object[] args) {
+        List<String> lines = jdbcTemplate.queryForList("EXPLAIN (COSTS OFF) " + sql, String.class, args);
+        return String.join("\n", lines);
+    }
+}
@@ -0,0 +1,224 @@
+package com.fuelpass.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EXPLAIN checks that the fuel order access paths use the indexes created for them and that
+ * date ranges are pruned to their monthly partitions.
+ *
+ * Runs the Flyway migrations against a PostgreSQL container, loads about a year of orders and
+ * inspects the plans of the SQL shapes FuelOrderSpecifications produces. Indexes are declared on
+ * the partitioned parent, so a plan names the per-partition child indexes instead.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class FuelOrderQueryPlanTest {
+
+    private static final int ORDER_COUNT = 100_000;
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void loadOrders() throws SQLException {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT create_fuel_order_partitions((CURRENT_DATE - 400)::date, 3)");
+            statement.execute("""
+                    INSERT INTO users (email, password, role)
+                    SELECT 'operator' || u || '@example.com', 'x', 'AIRCRAFT_OPERATOR'
+                    FROM generate_series(1, 20) u""");
+            // One order every five minutes going back about 350 days; roughly 2% of orders are still open
+            statement.execute("""
+                    INSERT INTO fuel_orders (tail_number, airport_icao_code, requested_fuel_volume,
+                                             delivery_time_window_start, delivery_time_window_end, status,
+                                             created_by, created_at, updated_at)
+                    SELECT 'N' || lpad((i % 20000)::text, 5, '0'),
+                           'KA' || chr(65 + i % 26) || chr(65 + (i / 26) % 2),
+                           1000,
+                           o.created_at + INTERVAL '1 day', o.created_at + INTERVAL '1 day 2 hours',
+                           CASE i % 100 WHEN 0 THEN 'PENDING' WHEN 1 THEN 'CONFIRMED'
+                                        WHEN 2 THEN 'CANCELLED' ELSE 'COMPLETED' END,
+                           (SELECT id FROM users ORDER BY email OFFSET i % 20 LIMIT 1),
+                           o.created_at, o.created_at
+                    FROM generate_series(1, %d) i
+                    CROSS JOIN LATERAL (SELECT date_trunc('second', now())::timestamp
+                                               - i * INTERVAL '5 minutes' AS created_at) o""".formatted(ORDER_COUNT));
+            statement.execute("ANALYZE fuel_orders");
+        }
+    }
+
+    @AfterAll
+    static void closeConnection() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void ordersByCreatorUseCreatorIndex() throws SQLException {
+        String plan = explain("""
+                SELECT * FROM fuel_orders
+                WHERE created_by = (SELECT id FROM users WHERE email = 'operator7@example.com')
+                ORDER BY created_at DESC, id DESC LIMIT 21""");
+
+        assertThat(usesIndex(plan, "idx_fuel_order_created_by_created_at")).as(plan).isTrue();
+        assertThat(plan).doesNotContain("Seq Scan on fuel_orders_p");
+    }
+
+    @Test
+    void airportAndStatusFilterUsesCompositeIndex() throws SQLException {
+        String plan = explain("""
+                SELECT * FROM fuel_orders
+                WHERE airport_icao_code = 'KABA' AND status = 'CANCELLED'
+                ORDER BY created_at DESC LIMIT 20""");
+
+        assertThat(usesIndex(plan, "idx_fuel_order_airport_status_created_at")).as(plan).isTrue();
+        assertThat(plan).doesNotContain("Seq Scan on fuel_orders_p");
+    }
+
+    @Test
+    void openOrdersUsePartialIndex() throws SQLException {
+        String plan = explain("""
+                SELECT * FROM fuel_orders
+                WHERE status IN ('PENDING', 'CONFIRMED')
+                ORDER BY created_at DESC LIMIT 20""");
+
+        assertThat(usesIndex(plan, "idx_fuel_order_open_created_at")).as(plan).isTrue();
+    }
+
+    @Test
+    void tailNumberSubstringUsesTrigramIndex() throws SQLException {
+        String plan = explain("SELECT * FROM fuel_orders WHERE tail_number LIKE '%1234%' ESCAPE '!'");
+
+        assertThat(usesIndex(plan, "idx_fuel_order_tail_number_trgm")).as(plan).isTrue();
+        assertThat(plan).contains("Bitmap Index Scan");
+    }
+
+    @Test
+    void tailNumberPrefixUsesPatternOpsIndex() throws SQLException {
+        String plan = explain("SELECT * FROM fuel_orders WHERE tail_number LIKE 'N1234%' ESCAPE '!'");
+
+        assertThat(usesIndex(plan, "idx_fuel_order_tail_number_prefix")).as(plan).isTrue();
+    }
+
+    @Test
+    void deepCursorStartsIndexScanAtCursor() throws SQLException {
+        String cursorCreatedAt = queryString("SELECT (date_trunc('second', now()) - INTERVAL '300 days')::timestamp::text");
+        String newestPartition = queryString("SELECT 'fuel_orders_p' || to_char(now(), 'YYYY_MM')");
+        String cursorPartition = queryString("SELECT 'fuel_orders_p' || to_char(now() - INTERVAL '300 days', 'YYYY_MM')");
+
+        // Same shape as FuelOrderSpecifications.afterPosition for a descending cursor
+        String plan = explain("""
+                SELECT * FROM fuel_orders
+                WHERE created_at <= '%1$s'
+                  AND (created_at < '%1$s' OR (created_at = '%1$s' AND id < 'ffffffff-ffff-ffff-ffff-ffffffffffff'))
+                ORDER BY created_at DESC, id DESC LIMIT 21""".formatted(cursorCreatedAt));
+
+        assertThat(plan).as(plan).containsPattern("Index Cond: \\(.*created_at <= ");
+        assertThat(plan).doesNotContain("Seq Scan on " + cursorPartition);
+        // Months newer than the cursor are pruned at plan time
+        assertThat(plan).doesNotContain(newestPartition);
+    }
+
+    @Test
+    void dateRangeIsPrunedToItsMonth() throws SQLException {
+        String monthStart = queryString("SELECT (date_trunc('month', now()) - INTERVAL '2 months')::date::text");
+        String monthPartition = queryString("SELECT 'fuel_orders_p' || to_char(now() - INTERVAL '2 months', 'YYYY_MM')");
+
+        String plan = explain("""
+                SELECT count(*) FROM fuel_orders
+                WHERE created_at >= '%1$s' AND created_at < DATE '%1$s' + INTERVAL '1 month'""".formatted(monthStart));
+
+        assertThat(plan).as(plan).contains(monthPartition);
+        assertThat(Pattern.compile("fuel_orders_p\\d{4}_\\d{2}").matcher(plan).results()
+                .map(match -> match.group()).distinct().count()).as(plan).isEqualTo(1);
+        assertThat(plan).doesNotContain("fuel_orders_default");
+    }
+
+    @Test
+    void rowsInDefaultPartitionAreMovedIntoNewMonth() throws SQLException {
+        // The month before the oldest partition created in loadOrders
+        String month = queryString("SELECT (date_trunc('month', CURRENT_DATE - 400) - INTERVAL '1 month')::date::text");
+        String partition = queryString("SELECT 'fuel_orders_p' || to_char(DATE '%s', 'YYYY_MM')".formatted(month));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    INSERT INTO fuel_orders (tail_number, airport_icao_code, requested_fuel_volume,
+                                             delivery_time_window_start, delivery_time_window_end,
+                                             created_by, created_at, updated_at)
+                    SELECT 'N99999', 'KABA', 1000, DATE '%1$s' + INTERVAL '1 day', DATE '%1$s' + INTERVAL '26 hours',
+                           (SELECT id FROM users LIMIT 1), DATE '%1$s' + INTERVAL '12 hours', DATE '%1$s' + INTERVAL '12 hours'
+                    """.formatted(month));
+            assertThat(queryString("SELECT count(*) FROM fuel_orders_default")).isEqualTo("1");
+
+            // Used to fail with check_violation because the default partition held a row for the month
+            statement.execute("SELECT create_fuel_order_partitions(DATE '%s', 3)".formatted(month));
+        }
+
+        assertThat(queryString("SELECT count(*) FROM fuel_orders_default")).isEqualTo("0");
+        assertThat(queryString("SELECT count(*) FROM " + partition)).isEqualTo("1");
+        assertThat(queryString("""
+                SELECT count(*) FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'fuel_orders'::regclass AND c.relname = '%s'""".formatted(partition))).isEqualTo("1");
+    }
+
+    private static String explain(String sql) throws SQLException {
+        List<String> lines = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN (COSTS OFF) " + sql)) {
+            while (rs.next()) {
+                lines.add(rs.getString(1));
+            }
+        }
+        return String.join("\n", lines);
+    }
+
+    private static String queryString(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    /**
+     * Whether the plan scans the parent index or any of its per-partition children
+     */
+    private static boolean usesIndex(String plan, String parentIndex) throws SQLException {
+        List<String> names = new ArrayList<>(List.of(parentIndex));
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("""
+                     SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                     WHERE i.inhparent = '%s'::regclass""".formatted(parentIndex))) {
+            while (rs.next()) {
+                names.add(rs.getString(1));
+            }
+        }
+        return names.stream().anyMatch(name ->
+                Pattern.compile("(using|Index Scan on) " + Pattern.quote(name) + "\\b").matcher(plan).find());
+    }
+}
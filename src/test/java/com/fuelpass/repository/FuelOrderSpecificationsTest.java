@@ -0,0 +1,117 @@
+package com.fuelpass.repository;
+
+import com.fuelpass.entity.FuelOrder;
+import com.fuelpass.entity.OrderStatus;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyChar;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class FuelOrderSpecificationsTest {
+
+    private Root<FuelOrder> root;
+    private CriteriaQuery<?> query;
+    private CriteriaBuilder cb;
+    private Path<String> path;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        root = mock(Root.class);
+        query = mock(CriteriaQuery.class);
+        cb = mock(CriteriaBuilder.class);
+        path = mock(Path.class);
+        doReturn(path).when(root).get(anyString());
+        doReturn(path).when(path).get(anyString());
+    }
+
+    @Test
+    void noFiltersProduceNoPredicate() {
+        Predicate predicate = FuelOrderSpecifications.withFilters(null, null, " ", false, null)
+                .toPredicate(root, query, cb);
+
+        assertThat(predicate).isNull();
+        verifyNoInteractions(root, cb);
+    }
+
+    @Test
+    void onlySuppliedFiltersBecomePredicates() {
+        Predicate airport = mock(Predicate.class);
+        Predicate status = mock(Predicate.class);
+        doReturn(airport).when(cb).equal(path, "KJFK");
+        doReturn(status).when(cb).equal(path, OrderStatus.PENDING);
+
+        FuelOrderSpecifications.withFilters("KJFK", OrderStatus.PENDING, null, false, null)
+                .toPredicate(root, query, cb);
+
+        verify(root).get("airportIcaoCode");
+        verify(root).get("status");
+        verify(root, never()).get("tailNumber");
+        verify(root, never()).get("createdBy");
+        verify(cb).and(airport, status);
+        verify(cb, never()).like(any(), anyString(), anyChar());
+    }
+
+    @Test
+    void tailNumberMatchesByPrefixOrSubstring() {
+        FuelOrderSpecifications.withFilters(null, null, "n12", true, null).toPredicate(root, query, cb);
+        verify(cb).like(path, "N12%", '!');
+
+        FuelOrderSpecifications.withFilters(null, null, "n1_", false, null).toPredicate(root, query, cb);
+        verify(cb).like(path, "%N1!_%", '!');
+        verify(cb, never()).equal(any(), any(Object.class));
+    }
+
+    @Test
+    void createdByComparesForeignKeyOnly() {
+        UUID userId = UUID.randomUUID();
+
+        FuelOrderSpecifications.withFilters(null, null, null, false, userId).toPredicate(root, query, cb);
+
+        verify(root).get("createdBy");
+        verify(path).get("id");
+        verify(cb).equal(path, userId);
+        verify(root, never()).join(anyString());
+    }
+
+    @Test
+    void sortByAcceptsAllowListedProperties() {
+        for (String property : FuelOrderSpecifications.SORTABLE_PROPERTIES) {
+            Sort sort = FuelOrderSpecifications.sortBy(property, "asc");
+            assertThat(sort.getOrderFor(property)).isNotNull();
+            assertThat(sort.getOrderFor(property).isAscending()).isTrue();
+        }
+    }
+
+    @Test
+    void sortByRejectsOtherProperties() {
+        for (String property : new String[] {"notes", "createdBy.password", "id", "createdAt; drop table users"}) {
+            assertThatThrownBy(() -> FuelOrderSpecifications.sortBy(property, "desc"))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Cannot sort by");
+        }
+    }
+
+    @Test
+    void sortByRejectsUnknownDirection() {
+        assertThatThrownBy(() -> FuelOrderSpecifications.sortBy("createdAt", "sideways"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
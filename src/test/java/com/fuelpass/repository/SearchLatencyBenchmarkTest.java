@@ -0,0 +1,91 @@
+package com.fuelpass.repository;
+
+import com.fuelpass.PostgresBenchmarkSupport;
+import com.fuelpass.service.FuelOrderService;
+import com.fuelpass.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency of tail number and email search over 200,000 orders and 50,000 users.
+ *
+ * Times the service calls behind GET /fuel-orders?tailNumber= (substring and prefix, including the
+ * page count) and GET /users/search, and runs the tail number substring SQL once with the trigram
+ * index and once with index scans disabled, which is how it ran before the index existed.
+ * Numbers are logged; only the indexed/unindexed ordering is asserted.
+ */
+class SearchLatencyBenchmarkTest extends PostgresBenchmarkSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchLatencyBenchmarkTest.class);
+
+    private static final int ORDER_COUNT = 200_000;
+    private static final int USER_COUNT = 50_000;
+    private static final int WARMUP_ITERATIONS = 100;
+    private static final int MEASURED_ITERATIONS = 500;
+
+    private static final String TAIL_NUMBER_SUBSTRING_SQL =
+            "SELECT id FROM fuel_orders WHERE tail_number LIKE '%1234%' ESCAPE '!' ORDER BY created_at DESC LIMIT 20";
+
+    @Autowired
+    private FuelOrderService fuelOrderService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void loadData() {
+        ensureOrders(ORDER_COUNT);
+        jdbcTemplate.update("""
+                INSERT INTO users (email, password, role)
+                SELECT 'pilot' || u || '@carrier' || (u % 50) || '.example.com', 'x', 'AIRCRAFT_OPERATOR'
+                FROM generate_series(1, ?) u
+                ON CONFLICT (email) DO NOTHING""", USER_COUNT);
+        jdbcTemplate.execute("ANALYZE users");
+    }
+
+    @Test
+    void tailNumberAndEmailSearch() throws Exception {
+        Measurement substring = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () ->
+                fuelOrderService.getOrders(null, null, "1234", false, null, 0, 20, "createdAt", "desc"));
+        Measurement prefix = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () ->
+                fuelOrderService.getOrders(null, null, "N123", true, null, 0, 20, "createdAt", "desc"));
+        Measurement emailSubstring = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () ->
+                userService.searchUsersByEmail("r17@carrier", false, 20));
+        Measurement emailPrefix = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () ->
+                userService.searchUsersByEmail("pilot4711", true, 20));
+
+        logger.info("Tail number contains '1234' over {} orders: {} us/op", ORDER_COUNT, substring.micros());
+        logger.info("Tail number prefix 'N123' over {} orders:   {} us/op", ORDER_COUNT, prefix.micros());
+        logger.info("Email contains 'r17@carrier' over {} users: {} us/op", USER_COUNT, emailSubstring.micros());
+        logger.info("Email prefix 'pilot4711' over {} users:     {} us/op", USER_COUNT, emailPrefix.micros());
+    }
+
+    @Test
+    void trigramIndexAgainstSequentialScan() throws Exception {
+        Measurement indexed = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () ->
+                jdbcTemplate.queryForList(TAIL_NUMBER_SUBSTRING_SQL, UUID.class));
+        Measurement scanned = measure(10, 50, () -> transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_indexscan = off");
+            jdbcTemplate.execute("SET LOCAL enable_bitmapscan = off");
+            return jdbcTemplate.queryForList(TAIL_NUMBER_SUBSTRING_SQL, UUID.class);
+        }));
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN (COSTS OFF) " + TAIL_NUMBER_SUBSTRING_SQL, String.class);
+
+        logger.info("Tail number contains, trigram index:   {} us/op", indexed.micros());
+        logger.info("Tail number contains, sequential scan: {} us/op", scanned.micros());
+        logger.info("Indexed plan:\n{}", String.join("\n", plan));
+        assertThat(indexed.micros()).isLessThan(scanned.micros());
+    }
+}
@@ -0,0 +1,90 @@
+package com.fuelpass.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fuelpass.PostgresBenchmarkSupport;
+import com.fuelpass.dto.response.ApiResponse;
+import jakarta.servlet.Filter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Per-request cost of the security filter chain on public paths and for rejected tokens.
+ *
+ * Requests run through the real springSecurityFilterChain: a public path, which JwtRequestFilter
+ * skips, and a protected path with an unparseable bearer token, which ends in the precomputed 401
+ * body of JwtAuthenticationEntryPoint. That body is also compared with serializing it per response,
+ * as the entry point used to. Numbers are logged; only the allocation ordering is asserted.
+ */
+class JwtFilterBenchmarkTest extends PostgresBenchmarkSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtFilterBenchmarkTest.class);
+
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 10_000;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    @Qualifier("springSecurityFilterChain")
+    private Filter springSecurityFilterChain;
+
+    @Autowired
+    private JwtAuthenticationEntryPoint entryPoint;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(springSecurityFilterChain)
+                .build();
+    }
+
+    @Test
+    void publicPathsAndRejectedTokens() throws Exception {
+        assertThat(mockMvc.perform(get("/fuel-orders").header("Authorization", "Bearer not-a-jwt"))
+                .andReturn().getResponse().getStatus()).isEqualTo(401);
+
+        Measurement publicPath = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () ->
+                mockMvc.perform(get("/auth/benchmark-missing")).andReturn());
+        Measurement rejectedToken = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () ->
+                mockMvc.perform(get("/fuel-orders").header("Authorization", "Bearer not-a-jwt")).andReturn());
+
+        logger.info("Public path, JWT filter skipped: {} us/op, {} bytes/op", publicPath.micros(), publicPath.bytes());
+        logger.info("Invalid bearer token, 401:       {} us/op, {} bytes/op", rejectedToken.micros(), rejectedToken.bytes());
+    }
+
+    @Test
+    void precomputedUnauthorizedBodyAllocatesLess() throws Exception {
+        BadCredentialsException failure = new BadCredentialsException("benchmark");
+        Measurement precomputed = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () -> {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            entryPoint.commence(new MockHttpServletRequest(), response, failure);
+            return response;
+        });
+        Measurement perResponse = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () -> {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            response.setStatus(401);
+            response.getOutputStream().write(new ObjectMapper().writeValueAsBytes(ApiResponse.error("Unauthorized access")));
+            return response;
+        });
+
+        logger.info("401 body, precomputed:           {} us/op, {} bytes/op", precomputed.micros(), precomputed.bytes());
+        logger.info("401 body, ObjectMapper per call: {} us/op, {} bytes/op", perResponse.micros(), perResponse.bytes());
+        assertThat(precomputed.bytes()).isLessThan(perResponse.bytes());
+    }
+}
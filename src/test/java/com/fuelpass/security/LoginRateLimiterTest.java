@@ -0,0 +1,115 @@
+package com.fuelpass.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginRateLimiterTest {
+
+    private static final String IP = "203.0.113.7";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private LoginRateLimiter limiter;
+
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new LoginRateLimiter();
+        ReflectionTestUtils.setField(limiter, "meterRegistry", meterRegistry);
+        // 20 per minute per IP: one token every 3s; 5 per minute per email: one token every 12s
+        ReflectionTestUtils.setField(limiter, "ipCapacity", 20);
+        ReflectionTestUtils.setField(limiter, "ipRefillPeriod", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(limiter, "emailCapacity", 5);
+        ReflectionTestUtils.setField(limiter, "emailRefillPeriod", Duration.ofMinutes(1));
+        limiter.initMetrics();
+
+        now = TimeUnit.HOURS.toNanos(1);
+        limiter.nanoClock = () -> now;
+    }
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        for (int i = 0; i < 20; i++) {
+            assertThat(limiter.tryAcquireForIp(IP)).isZero();
+        }
+        assertThat(limiter.tryAcquireForIp(IP)).isEqualTo(3);
+        assertThat(meterRegistry.get("auth.throttled").tag("scope", LoginRateLimiter.IP_SCOPE).counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void refillsOneTokenPerEmissionInterval() {
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquireForIp(IP);
+        }
+        advance(Duration.ofSeconds(3));
+        assertThat(limiter.tryAcquireForIp(IP)).isZero();
+        assertThat(limiter.tryAcquireForIp(IP)).isEqualTo(3);
+    }
+
+    @Test
+    void retryAfterRoundsUpToWholeSeconds() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquireForLogin(IP, "pilot@example.com")).isZero();
+        }
+        advance(Duration.ofMillis(6_500));
+        // Next email token is due 12s after the burst, 5.5s from now
+        assertThat(limiter.tryAcquireForLogin(IP, "pilot@example.com")).isEqualTo(6);
+    }
+
+    @Test
+    void emailBucketIsSharedAcrossCaseAndWhitespace() {
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquireForLogin(IP, "Pilot@Example.com");
+        }
+        assertThat(limiter.tryAcquireForLogin("198.51.100.1", " pilot@example.com ")).isPositive();
+        assertThat(limiter.tryAcquireForLogin("198.51.100.1", "other@example.com")).isZero();
+    }
+
+    @Test
+    void sweepDropsOnlyFullyRefilledBuckets() {
+        limiter.tryAcquireForIp(IP);
+        limiter.tryAcquireForIp("198.51.100.1");
+        advance(Duration.ofSeconds(2));
+        limiter.tryAcquireForIp("198.51.100.1");
+
+        // 3s after its only request, the first bucket is full again; the second still owes a token
+        advance(Duration.ofSeconds(1));
+        limiter.evictIdleBuckets();
+        assertThat(bucketCount()).isEqualTo(1);
+
+        advance(Duration.ofSeconds(5));
+        limiter.evictIdleBuckets();
+        assertThat(bucketCount()).isZero();
+    }
+
+    @Test
+    void sweptBucketStartsFull() {
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquireForIp(IP);
+        }
+        advance(Duration.ofMinutes(1));
+        limiter.evictIdleBuckets();
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(limiter.tryAcquireForIp(IP)).isZero();
+        }
+        assertThat(limiter.tryAcquireForIp(IP)).isPositive();
+    }
+
+    private void advance(Duration duration) {
+        now += duration.toNanos();
+    }
+
+    private double bucketCount() {
+        return meterRegistry.get("auth.throttle.buckets").gauge().value();
+    }
+}
@@ -0,0 +1,103 @@
+package com.fuelpass.security;
+
+import com.fuelpass.entity.TokenRevocation;
+import com.fuelpass.entity.User;
+import com.fuelpass.entity.UserRole;
+import com.fuelpass.repository.TokenRevocationRepository;
+import com.fuelpass.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationListTest {
+
+    private static final String EMAIL = "operator@fuelpass.com";
+
+    private final TokenRevocationRepository tokenRevocationRepository = mock(TokenRevocationRepository.class);
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private final User user = new User();
+
+    private CustomUserDetailsService userDetailsService;
+
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        user.setId(UUID.randomUUID());
+        user.setEmail(EMAIL);
+        user.setRole(UserRole.AIRCRAFT_OPERATOR);
+        user.setIsActive(false);
+        when(userRepository.findByEmail(EMAIL)).thenAnswer(invocation -> Optional.of(user));
+
+        userDetailsService = new CustomUserDetailsService();
+        ReflectionTestUtils.setField(userDetailsService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(userDetailsService, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(userDetailsService, "principalCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(userDetailsService, "principalCacheTtl", Duration.ofMinutes(5));
+        userDetailsService.initPrincipalCache();
+
+        revocationList = new TokenRevocationList();
+        ReflectionTestUtils.setField(revocationList, "tokenRevocationRepository", tokenRevocationRepository);
+        ReflectionTestUtils.setField(revocationList, "userDetailsService", userDetailsService);
+        ReflectionTestUtils.setField(revocationList, "refreshTokenLifetime", 604800L);
+        ReflectionTestUtils.setField(revocationList, "principalCacheTtl", Duration.ofMinutes(5));
+        when(tokenRevocationRepository.findByRevokedAtAfterAndExpiresAtAfter(any(), any())).thenReturn(List.of());
+        revocationList.loadRevocations();
+    }
+
+    @Test
+    void principalChangeFromAnotherNodeEvictsCachedPrincipalWithoutRevokingTokens() {
+        assertThat(userDetailsService.loadUserByUsername(EMAIL).isEnabled()).isFalse();
+
+        // Another node reactivated the user and published the change
+        user.setIsActive(true);
+        TokenRevocation change = new TokenRevocation(user.getId(), null, Instant.now(), Instant.now().plusSeconds(300));
+        change.setPrincipalOnly(true);
+        when(tokenRevocationRepository.findByRevokedAtAfterAndExpiresAtAfter(any(), any())).thenReturn(List.of(change));
+        revocationList.syncRevocations();
+
+        assertThat(userDetailsService.loadUserByUsername(EMAIL).isEnabled()).isTrue();
+        assertThat(revocationList.isRevoked(claimsIssuedAt(Instant.now().minusSeconds(60)))).isFalse();
+    }
+
+    @Test
+    void userRevocationFromAnotherNodeEvictsCachedPrincipalOnce() {
+        userDetailsService.loadUserByUsername(EMAIL);
+        TokenRevocation revocation = new TokenRevocation(user.getId(), null, Instant.now(), Instant.now().plusSeconds(600));
+        when(tokenRevocationRepository.findByRevokedAtAfterAndExpiresAtAfter(any(), any())).thenReturn(List.of(revocation));
+
+        revocationList.syncRevocations();
+        userDetailsService.loadUserByUsername(EMAIL);
+        // Re-read in the sync overlap: already applied, so the principal stays cached
+        revocationList.syncRevocations();
+        userDetailsService.loadUserByUsername(EMAIL);
+
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+        assertThat(revocationList.isRevoked(claimsIssuedAt(Instant.now().minusSeconds(60)))).isTrue();
+    }
+
+    private Claims claimsIssuedAt(Instant issuedAt) {
+        Claims claims = Jwts.claims();
+        claims.put(JwtUtil.USER_ID_CLAIM, user.getId().toString());
+        claims.put(JwtUtil.ISSUED_AT_MILLIS_CLAIM, issuedAt.toEpochMilli());
+        return claims;
+    }
+}
@@ -0,0 +1,70 @@
+package com.fuelpass.service;
+
+import com.fuelpass.security.JwtUtil;
+import com.fuelpass.security.TokenRevocationList;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class AuthServiceTest {
+
+    private final JwtUtil jwtUtil = mock(JwtUtil.class);
+
+    private final TokenRevocationList tokenRevocationList = mock(TokenRevocationList.class);
+
+    private AuthService authService;
+
+    @BeforeEach
+    void setUp() {
+        authService = new AuthService();
+        ReflectionTestUtils.setField(authService, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(authService, "tokenRevocationList", tokenRevocationList);
+    }
+
+    @Test
+    void logoutRevokesBearerToken() {
+        Date expiresAt = new Date((System.currentTimeMillis() / 1000 + 60) * 1000);
+        when(jwtUtil.getClaimsFromToken("header.access.token")).thenReturn(claims("access-jti", expiresAt));
+
+        authService.logout(JwtUtil.resolveBearerToken("Bearer header.access.token"), null, null);
+
+        verify(tokenRevocationList).revokeToken("access-jti", expiresAt);
+        verifyNoMoreInteractions(tokenRevocationList);
+    }
+
+    @Test
+    void logoutRevokesCookieAndRefreshTokens() {
+        Date expiresAt = new Date((System.currentTimeMillis() / 1000 + 60) * 1000);
+        when(jwtUtil.getClaimsFromToken("cookie.access.token")).thenReturn(claims("cookie-jti", expiresAt));
+        when(jwtUtil.getClaimsFromToken("refresh.token")).thenReturn(claims("refresh-jti", expiresAt));
+
+        authService.logout(null, "cookie.access.token", "refresh.token");
+
+        verify(tokenRevocationList).revokeToken("cookie-jti", expiresAt);
+        verify(tokenRevocationList).revokeToken("refresh-jti", expiresAt);
+    }
+
+    @Test
+    void onlyBearerHeadersCarryTokens() {
+        assertThat(JwtUtil.resolveBearerToken("Bearer abc")).isEqualTo("abc");
+        assertThat(JwtUtil.resolveBearerToken("Basic abc")).isNull();
+        assertThat(JwtUtil.resolveBearerToken(null)).isNull();
+    }
+
+    private static Claims claims(String id, Date expiresAt) {
+        Claims claims = Jwts.claims();
+        claims.setId(id);
+        claims.setExpiration(expiresAt);
+        return claims;
+    }
+}
@@ -0,0 +1,79 @@
+package com.fuelpass.service;
+
+import com.fuelpass.PostgresBenchmarkSupport;
+import com.fuelpass.dto.request.CreateFuelOrderRequest;
+import com.fuelpass.dto.response.BatchItemResult;
+import com.fuelpass.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Creating 500 orders with one createOrders call, inserted through JDBC batches rewritten into
+ * multi-row INSERTs, compared with 500 createOrder calls in a transaction each.
+ *
+ * Numbers are logged; only that the batch is faster is asserted.
+ */
+class BatchOrderCreationBenchmarkTest extends PostgresBenchmarkSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchOrderCreationBenchmarkTest.class);
+
+    private static final int BATCH_SIZE = 500;
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int MEASURED_ITERATIONS = 5;
+
+    @Autowired
+    private FuelOrderService fuelOrderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UUID operatorId;
+
+    private List<CreateFuelOrderRequest> requests;
+
+    @BeforeEach
+    void setUp() {
+        operatorId = userRepository.findByEmail("operator@fuelpass.com").orElseThrow().getId();
+        LocalDateTime start = LocalDateTime.now().plusDays(2);
+        requests = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            requests.add(new CreateFuelOrderRequest("N" + (20000 + i), i % 2 == 0 ? "KJFK" : "EGLL",
+                    1000.0 + i, start, start.plusHours(2), "Batch benchmark order " + i));
+        }
+    }
+
+    @Test
+    void batchAgainstSingleCreates() throws Exception {
+        List<BatchItemResult> results = fuelOrderService.createOrders(requests, operatorId);
+        assertThat(results).allMatch(BatchItemResult::isSuccess);
+
+        Measurement batch = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () ->
+                fuelOrderService.createOrders(requests, operatorId));
+        Measurement singles = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () -> {
+            for (CreateFuelOrderRequest request : requests) {
+                fuelOrderService.createOrder(request, operatorId);
+            }
+            return null;
+        });
+
+        logger.info("{} orders, one createOrders call:   {} ms, {} orders/s",
+                BATCH_SIZE, batch.micros() / 1_000, ordersPerSecond(batch));
+        logger.info("{} orders, {} createOrder calls: {} ms, {} orders/s",
+                BATCH_SIZE, BATCH_SIZE, singles.micros() / 1_000, ordersPerSecond(singles));
+        assertThat(batch.micros()).isLessThan(singles.micros());
+    }
+
+    private static long ordersPerSecond(Measurement measurement) {
+        return BATCH_SIZE * 1_000_000L / Math.max(1, measurement.micros());
+    }
+}
@@ -0,0 +1,90 @@
+package com.fuelpass.service;
+
+import com.fuelpass.PostgresBenchmarkSupport;
+import com.fuelpass.dto.request.CreateFuelOrderRequest;
+import com.fuelpass.dto.request.UpdateOrderStatusRequest;
+import com.fuelpass.dto.response.BatchItemResult;
+import com.fuelpass.entity.OrderStatus;
+import com.fuelpass.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Confirming 1,000 pending orders with one updateOrderStatuses call (guarded UPDATE ... RETURNING)
+ * compared with 1,000 updateOrderStatus calls in a transaction each.
+ *
+ * Every round confirms freshly created orders, so both paths move the same rows from PENDING.
+ * The best of the measured rounds is logged; only that the bulk path is faster is asserted.
+ */
+class BulkStatusUpdateBenchmarkTest extends PostgresBenchmarkSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkStatusUpdateBenchmarkTest.class);
+
+    private static final int ORDER_COUNT = 1_000;
+    private static final int WARMUP_ROUNDS = 1;
+    private static final int MEASURED_ROUNDS = 3;
+
+    @Autowired
+    private FuelOrderService fuelOrderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void bulkAgainstSingleUpdates() {
+        UUID operatorId = userRepository.findByEmail("operator@fuelpass.com").orElseThrow().getId();
+        UpdateOrderStatusRequest confirm = new UpdateOrderStatusRequest(OrderStatus.CONFIRMED);
+
+        long bulkNanos = Long.MAX_VALUE;
+        long singleNanos = Long.MAX_VALUE;
+        for (int round = 0; round < WARMUP_ROUNDS + MEASURED_ROUNDS; round++) {
+            List<UUID> bulkIds = createPendingOrders(operatorId);
+            long startedAt = System.nanoTime();
+            List<BatchItemResult> results = fuelOrderService.updateOrderStatuses(bulkIds, OrderStatus.CONFIRMED);
+            long bulkElapsed = System.nanoTime() - startedAt;
+            assertThat(results).allMatch(BatchItemResult::isSuccess);
+
+            List<UUID> singleIds = createPendingOrders(operatorId);
+            startedAt = System.nanoTime();
+            for (UUID orderId : singleIds) {
+                fuelOrderService.updateOrderStatus(orderId, confirm);
+            }
+            long singleElapsed = System.nanoTime() - startedAt;
+
+            if (round >= WARMUP_ROUNDS) {
+                bulkNanos = Math.min(bulkNanos, bulkElapsed);
+                singleNanos = Math.min(singleNanos, singleElapsed);
+            }
+        }
+
+        logger.info("{} orders, one updateOrderStatuses call: {} ms, {} orders/s",
+                ORDER_COUNT, bulkNanos / 1_000_000, ordersPerSecond(bulkNanos));
+        logger.info("{} orders, {} updateOrderStatus calls: {} ms, {} orders/s",
+                ORDER_COUNT, ORDER_COUNT, singleNanos / 1_000_000, ordersPerSecond(singleNanos));
+        assertThat(bulkNanos).isLessThan(singleNanos);
+    }
+
+    private List<UUID> createPendingOrders(UUID operatorId) {
+        LocalDateTime start = LocalDateTime.now().plusDays(2);
+        List<CreateFuelOrderRequest> requests = new ArrayList<>(ORDER_COUNT);
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            requests.add(new CreateFuelOrderRequest("N" + (30000 + i), "KJFK", 1000.0, start, start.plusHours(2), null));
+        }
+        return fuelOrderService.createOrders(requests, operatorId).stream()
+                .map(BatchItemResult::getOrderId)
+                .toList();
+    }
+
+    private static long ordersPerSecond(long nanos) {
+        return ORDER_COUNT * 1_000_000_000L / Math.max(1, nanos);
+    }
+}
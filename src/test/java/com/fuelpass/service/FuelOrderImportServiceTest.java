@@ -0,0 +1,138 @@
+package com.fuelpass.service;
+
+import com.fuelpass.dto.response.ImportResult;
+import com.fuelpass.entity.FuelOrder;
+import com.fuelpass.repository.FuelOrderRepository;
+import com.fuelpass.repository.UserRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class FuelOrderImportServiceTest {
+
+    private static final String HEADER = "tailNumber,airportIcaoCode,requestedFuelVolume,"
+            + "deliveryTimeWindowStart,deliveryTimeWindowEnd,status,createdAt\n";
+
+    private final FuelOrderRepository fuelOrderRepository = mock(FuelOrderRepository.class);
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    private final ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory();
+
+    private final FuelOrderPartitionMaintenance partitionMaintenance = mock(FuelOrderPartitionMaintenance.class);
+
+    private final List<FuelOrder> copied = new ArrayList<>();
+
+    private final UUID createdById = UUID.randomUUID();
+
+    private FuelOrderImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        importService = new FuelOrderImportService();
+        ReflectionTestUtils.setField(importService, "fuelOrderRepository", fuelOrderRepository);
+        ReflectionTestUtils.setField(importService, "userRepository", userRepository);
+        ReflectionTestUtils.setField(importService, "orderStatisticsCounters", mock(OrderStatisticsCounters.class));
+        ReflectionTestUtils.setField(importService, "validator", validatorFactory.getValidator());
+        ReflectionTestUtils.setField(importService, "fuelOrderPartitionMaintenance", partitionMaintenance);
+        ReflectionTestUtils.setField(importService, "copyChunkSize", 100);
+        ReflectionTestUtils.setField(importService, "maxReportedRejections", 100);
+        ReflectionTestUtils.setField(importService, "createdAtFloor", "2020-01-01");
+
+        when(userRepository.existsById(createdById)).thenReturn(true);
+        when(fuelOrderRepository.copyOrders(any())).thenAnswer(invocation -> {
+            List<FuelOrder> chunk = invocation.getArgument(0);
+            copied.addAll(chunk);
+            return (long) chunk.size();
+        });
+    }
+
+    @AfterEach
+    void closeValidator() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void importsHistoricalOrderWithItsCreatedAt() throws Exception {
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(30).truncatedTo(ChronoUnit.SECONDS);
+
+        ImportResult result = importService.importOrders(new StringReader(HEADER + row(createdAt)), createdById);
+
+        assertThat(result.getImportedRows()).isEqualTo(1);
+        assertThat(result.getRejectedRows()).isZero();
+        assertThat(copied).singleElement().satisfies(order -> {
+            assertThat(order.getCreatedAt()).isEqualTo(createdAt);
+            assertThat(order.getUpdatedAt()).isEqualTo(createdAt);
+        });
+    }
+
+    @Test
+    void createsPartitionsBackToOldestValidCreatedAt() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        String csv = HEADER + row(now.minusMonths(2)) + row(now.minusMonths(14)) + row(now.minusMonths(3))
+                + row(LocalDateTime.of(2019, 12, 31, 23, 59)) + "N12345,KJFK,1500\n";
+
+        importService.createPartitionsFor(new StringReader(csv));
+
+        // Rows the import will reject do not widen the range
+        verify(partitionMaintenance).createPartitionsFrom(now.minusMonths(14).toLocalDate().withDayOfMonth(1));
+        verifyNoMoreInteractions(partitionMaintenance);
+    }
+
+    @Test
+    void importLeavesPartitionsToThePreScan() throws Exception {
+        ReflectionTestUtils.setField(importService, "copyChunkSize", 2);
+        LocalDateTime now = LocalDateTime.now();
+        String csv = HEADER + row(now.minusMonths(2)) + row(now.minusMonths(5)) + row(now.minusMonths(14));
+
+        ImportResult result = importService.importOrders(new StringReader(csv), createdById);
+
+        assertThat(result.getImportedRows()).isEqualTo(3);
+        verifyNoInteractions(partitionMaintenance);
+    }
+
+    @Test
+    void rejectsCreatedAtInTheFuture() throws Exception {
+        ImportResult result = importService.importOrders(
+                new StringReader(HEADER + row(LocalDateTime.now().plusDays(1))), createdById);
+
+        assertThat(result.getImportedRows()).isZero();
+        assertThat(result.getRejectedRows()).isEqualTo(1);
+        assertThat(result.getRejected().get(0).getIndex()).isZero();
+        assertThat(result.getRejected().get(0).getLine()).isEqualTo(2);
+        assertThat(result.getRejected().get(0).getErrors()).containsExactly("createdAt cannot be in the future");
+    }
+
+    @Test
+    void rejectsCreatedAtBeforeFloor() throws Exception {
+        ImportResult result = importService.importOrders(
+                new StringReader(HEADER + row(LocalDateTime.of(2019, 12, 31, 23, 59))), createdById);
+
+        assertThat(result.getRejectedRows()).isEqualTo(1);
+        assertThat(result.getRejected().get(0).getErrors()).containsExactly("createdAt cannot be before 2020-01-01");
+        assertThat(copied).isEmpty();
+    }
+
+    private static String row(LocalDateTime createdAt) {
+        LocalDateTime start = createdAt.plusDays(1);
+        return "N12345,KJFK,1500," + start + "," + start.plusHours(2) + ",COMPLETED," + createdAt + "\n";
+    }
+}
@@ -0,0 +1,111 @@
+package com.fuelpass.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fuelpass.PostgresBenchmarkSupport;
+import com.fuelpass.dto.response.FuelOrderView;
+import com.fuelpass.entity.FuelOrder;
+import com.fuelpass.entity.User;
+import com.fuelpass.repository.FuelOrderRepository;
+import com.fuelpass.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Timing and allocation harness for a 100-row order listing page.
+ *
+ * Compares the read-only FuelOrderView projection behind the list endpoints with loading managed
+ * FuelOrder entities in a read-write transaction, both including JSON serialization, and checks
+ * that the page keeps its JSON shape. Numbers are logged; only the allocation ordering is asserted.
+ */
+class FuelOrderListingBenchmarkTest extends PostgresBenchmarkSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(FuelOrderListingBenchmarkTest.class);
+
+    private static final int PAGE_SIZE = 100;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 500;
+
+    @Autowired
+    private FuelOrderService fuelOrderService;
+
+    @Autowired
+    private FuelOrderRepository fuelOrderRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void seedOrders() {
+        if (fuelOrderRepository.count() >= PAGE_SIZE * 3) {
+            return;
+        }
+        User operator = userRepository.findByEmail("operator@fuelpass.com").orElseThrow();
+        List<FuelOrder> orders = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE * 3; i++) {
+            FuelOrder order = new FuelOrder();
+            order.setTailNumber("N" + (10000 + i));
+            order.setAirportIcaoCode(i % 2 == 0 ? "KJFK" : "EGLL");
+            order.setRequestedFuelVolume(1000.0 + i);
+            order.setDeliveryTimeWindowStart(LocalDateTime.now().plusDays(1));
+            order.setDeliveryTimeWindowEnd(LocalDateTime.now().plusDays(1).plusHours(2));
+            order.setNotes("Benchmark order " + i);
+            order.setCreatedBy(operator);
+            orders.add(order);
+        }
+        fuelOrderRepository.saveAll(orders);
+    }
+
+    @Test
+    void pageKeepsJsonContract() throws Exception {
+        Page<FuelOrderView> page = fuelOrderService.getOrders(null, null, null, false, null,
+                0, PAGE_SIZE, "createdAt", "desc");
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsBytes(page));
+        assertThat(json.get("content")).hasSize(PAGE_SIZE);
+        assertThat(json.get("totalElements").asLong()).isGreaterThanOrEqualTo(PAGE_SIZE * 3L);
+        assertThat(json.get("number").asInt()).isZero();
+        assertThat(json.get("size").asInt()).isEqualTo(PAGE_SIZE);
+        assertThat(json.has("totalPages")).isTrue();
+        assertThat(json.get("content").get(0).has("tailNumber")).isTrue();
+        assertThat(json.get("content").get(0).has("createdById")).isFalse();
+    }
+
+    @Test
+    void projectionAllocatesLessThanEntities() throws Exception {
+        Measurement views = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () ->
+                objectMapper.writeValueAsBytes(fuelOrderService.getOrders(
+                        null, null, null, false, null, 0, PAGE_SIZE, "createdAt", "desc")));
+        Measurement entities = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () -> transactionTemplate.execute(status -> {
+            try {
+                return objectMapper.writeValueAsBytes(fuelOrderRepository.findAll(
+                        (root, query, cb) -> null, PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt"))));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+
+        logger.info("{}-row page, projection: {} us/op, {} bytes/op", PAGE_SIZE, views.micros(), views.bytes());
+        logger.info("{}-row page, entities:   {} us/op, {} bytes/op", PAGE_SIZE, entities.micros(), entities.bytes());
+        assertThat(views.bytes()).isLessThan(entities.bytes());
+    }
+}
@@ -0,0 +1,69 @@
+package com.fuelpass.service;
+
+import com.fuelpass.PostgresBenchmarkSupport;
+import com.fuelpass.dto.request.LoginRequest;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Logins per second through AuthService, and BCrypt verifications per second by cost factor.
+ *
+ * Logins use the seeded operator account at the configured auth.password-hashing.bcrypt-strength,
+ * from more caller threads than the hashing executor runs, so the rate shows the executor's cap.
+ * The per-cost rates use the same concurrency to show what raising the cost would do to that cap.
+ * Numbers are logged; only the ordering of the costs is asserted.
+ */
+class LoginThroughputBenchmarkTest extends PostgresBenchmarkSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginThroughputBenchmarkTest.class);
+
+    private static final int CALLER_THREADS = 16;
+    private static final Duration WARMUP = Duration.ofSeconds(2);
+    private static final Duration MEASURED = Duration.ofSeconds(10);
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private AuthService authService;
+
+    @Value("${auth.password-hashing.concurrency:4}")
+    private int hashingConcurrency;
+
+    @Value("${auth.password-hashing.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Test
+    void loginsPerSecondAtConfiguredCost() throws Exception {
+        LoginRequest request = new LoginRequest("operator@fuelpass.com", PASSWORD);
+
+        throughput(CALLER_THREADS, WARMUP, () -> authService.login(request));
+        double rate = throughput(CALLER_THREADS, MEASURED, () -> authService.login(request));
+
+        logger.info("{} callers, {} hashing threads, cost {}: {} logins/s",
+                CALLER_THREADS, hashingConcurrency, bcryptStrength, Math.round(rate));
+        assertThat(rate).isPositive();
+    }
+
+    @Test
+    void verificationsPerSecondByCost() throws Exception {
+        double previousRate = Double.MAX_VALUE;
+        for (int cost = 8; cost <= 12; cost++) {
+            BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+            String hash = encoder.encode(PASSWORD);
+
+            double rate = throughput(hashingConcurrency, Duration.ofSeconds(3), () -> encoder.matches(PASSWORD, hash));
+
+            logger.info("{} hashing threads, cost {}: {} verifications/s", hashingConcurrency, cost, Math.round(rate));
+            // Each step doubles the work
+            assertThat(rate).isLessThan(previousRate);
+            previousRate = rate;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.fuelpass.service;
+
+import com.fuelpass.dto.response.OrderStatistics;
+import com.fuelpass.entity.OrderStatus;
+import com.fuelpass.repository.FuelOrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderStatisticsCountersTest {
+
+    private final FuelOrderRepository fuelOrderRepository = mock(FuelOrderRepository.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private OrderStatisticsCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        counters = new OrderStatisticsCounters();
+        ReflectionTestUtils.setField(counters, "fuelOrderRepository", fuelOrderRepository);
+        ReflectionTestUtils.setField(counters, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(counters, "reconcileAttempts", 3);
+        counters.initMetrics();
+    }
+
+    @Test
+    void seedsCountsFromDatabase() {
+        when(fuelOrderRepository.countByAirportAndStatus()).thenReturn(rows(
+                row("KJFK", OrderStatus.PENDING, 3),
+                row("EGLL", OrderStatus.PENDING, 2),
+                row("EGLL", OrderStatus.COMPLETED, 5)));
+
+        counters.seed();
+
+        OrderStatistics statistics = counters.snapshot();
+        assertThat(counters.isReady()).isTrue();
+        assertThat(statistics.getPendingOrders()).isEqualTo(5);
+        assertThat(statistics.getCompletedOrders()).isEqualTo(5);
+        assertThat(statistics.getTotalOrders()).isEqualTo(10);
+    }
+
+    @Test
+    void correctsDriftAgainstDatabase() {
+        when(fuelOrderRepository.countByAirportAndStatus()).thenReturn(rows(row("KJFK", OrderStatus.PENDING, 1)));
+        counters.seed();
+        counters.recordCreated("KJFK", OrderStatus.PENDING);
+        counters.recordCreated("KJFK", OrderStatus.PENDING);
+
+        when(fuelOrderRepository.countByAirportAndStatus()).thenReturn(rows(row("KJFK", OrderStatus.PENDING, 2)));
+        counters.reconcile();
+
+        assertThat(counters.snapshot().getPendingOrders()).isEqualTo(2);
+        assertThat(meterRegistry.get("orders.statistics.drift").summary().totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    void retriesWhenCountersMoveDuringQuery() {
+        when(fuelOrderRepository.countByAirportAndStatus()).thenReturn(rows());
+        counters.seed();
+
+        // First pass overlaps a committed create; the second pass sees it in the database
+        when(fuelOrderRepository.countByAirportAndStatus())
+                .thenAnswer(invocation -> {
+                    counters.recordCreated("KJFK", OrderStatus.PENDING);
+                    return rows(row("KJFK", OrderStatus.PENDING, 1));
+                })
+                .thenReturn(rows(row("KJFK", OrderStatus.PENDING, 1)));
+        counters.reconcile();
+
+        verify(fuelOrderRepository, times(3)).countByAirportAndStatus();
+        assertThat(counters.snapshot().getPendingOrders()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsUpdatesRecordedAfterSnapshotWhenAttemptsRunOut() {
+        when(fuelOrderRepository.countByAirportAndStatus()).thenReturn(rows());
+        counters.seed();
+
+        // Every pass overlaps a create that is not yet visible to the query
+        when(fuelOrderRepository.countByAirportAndStatus()).thenAnswer(invocation -> {
+            counters.recordCreated("KJFK", OrderStatus.PENDING);
+            return rows();
+        });
+        counters.reconcile();
+
+        // Applied on the last attempt; the create recorded after that snapshot is kept
+        verify(fuelOrderRepository, times(4)).countByAirportAndStatus();
+        assertThat(counters.snapshot().getPendingOrders()).isEqualTo(1);
+    }
+
+    @Test
+    void statusChangeMovesCounts() {
+        when(fuelOrderRepository.countByAirportAndStatus()).thenReturn(rows(row("KJFK", OrderStatus.PENDING, 1)));
+        counters.seed();
+
+        counters.recordStatusChange("KJFK", OrderStatus.PENDING, OrderStatus.CONFIRMED);
+
+        OrderStatistics statistics = counters.snapshot();
+        assertThat(statistics.getPendingOrders()).isZero();
+        assertThat(statistics.getConfirmedOrders()).isEqualTo(1);
+        assertThat(statistics.getTotalOrders()).isEqualTo(1);
+    }
+
+    private static Object[] row(String airportIcaoCode, OrderStatus status, long count) {
+        return new Object[] {airportIcaoCode, status, count};
+    }
+
+    private static List<Object[]> rows(Object[]... rows) {
+        return new ArrayList<>(List.of(rows));
+    }
+}
@@ -0,0 +1,80 @@
+package com.fuelpass.service;
+
+import com.fuelpass.PostgresBenchmarkSupport;
+import com.fuelpass.repository.FuelOrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Dashboard refresh cost: the order and user statistics as one grouped query each, compared with
+ * the four count queries per endpoint they replaced, over 100,000 orders.
+ *
+ * The old shapes are reproduced as plain SQL in one read-only transaction, like the new ones.
+ * The in-memory OrderStatisticsCounters path, which serves the order endpoint once seeded, is
+ * logged alongside. Numbers are logged; the grouped order totals are checked against the counts.
+ */
+class StatisticsBenchmarkTest extends PostgresBenchmarkSupport {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatisticsBenchmarkTest.class);
+
+    private static final int ORDER_COUNT = 100_000;
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 200;
+
+    @Autowired
+    private FuelOrderService fuelOrderService;
+
+    @Autowired
+    private FuelOrderRepository fuelOrderRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void loadOrders() {
+        ensureOrders(ORDER_COUNT);
+    }
+
+    @Test
+    void groupedQueriesAgainstSeparateCounts() throws Exception {
+        long groupedTotal = transactionTemplate.execute(status -> fuelOrderRepository.countByAirportAndStatus().stream()
+                .mapToLong(row -> (Long) row[2])
+                .sum());
+        assertThat(groupedTotal).isEqualTo(jdbcTemplate.queryForObject("SELECT count(*) FROM fuel_orders", Long.class));
+
+        Measurement groupedOrders = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () ->
+                transactionTemplate.execute(status -> fuelOrderRepository.countByAirportAndStatus()));
+        Measurement separateOrders = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () -> transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForObject("SELECT count(*) FROM fuel_orders", Long.class);
+            for (String orderStatus : new String[] {"PENDING", "CONFIRMED", "COMPLETED"}) {
+                jdbcTemplate.queryForObject("SELECT count(*) FROM fuel_orders WHERE status = ?", Long.class, orderStatus);
+            }
+            return null;
+        }));
+        Measurement groupedUsers = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () -> userService.getUserStatistics());
+        Measurement separateUsers = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () -> transactionTemplate.execute(status -> {
+            jdbcTemplate.queryForObject("SELECT count(*) FROM users", Long.class);
+            for (String role : new String[] {"AIRCRAFT_OPERATOR", "OPERATIONS_MANAGER"}) {
+                jdbcTemplate.queryForObject("SELECT count(*) FROM users WHERE role = ? AND is_active", Long.class, role);
+            }
+            jdbcTemplate.queryForObject("SELECT count(*) FROM users WHERE is_active", Long.class);
+            return null;
+        }));
+        Measurement endpoint = measure(WARMUP_ITERATIONS, MEASURED_ITERATIONS, () -> fuelOrderService.getOrderStatistics());
+
+        logger.info("Order statistics over {} orders, one grouped query: {} us/op", ORDER_COUNT, groupedOrders.micros());
+        logger.info("Order statistics over {} orders, four counts:       {} us/op", ORDER_COUNT, separateOrders.micros());
+        logger.info("User statistics, one grouped query:                {} us/op", groupedUsers.micros());
+        logger.info("User statistics, four counts:                      {} us/op", separateUsers.micros());
+        logger.info("getOrderStatistics as served:                      {} us/op", endpoint.micros());
+    }
+}
@@ -0,0 +1,51 @@
+package com.fuelpass.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvUtilTest {
+
+    @Test
+    void quotesOnlyWhenNeeded() {
+        assertThat(CsvUtil.field(null)).isEmpty();
+        assertThat(CsvUtil.field("N12345")).isEqualTo("N12345");
+        assertThat(CsvUtil.field("a,b")).isEqualTo("\"a,b\"");
+        assertThat(CsvUtil.field("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(CsvUtil.field("two\nlines")).isEqualTo("\"two\nlines\"");
+    }
+
+    @Test
+    void neutralizesFormulaTriggers() {
+        assertThat(CsvUtil.textField("=HYPERLINK(\"http://example.com\")"))
+                .isEqualTo("\"'=HYPERLINK(\"\"http://example.com\"\")\"");
+        assertThat(CsvUtil.textField("+1")).isEqualTo("'+1");
+        assertThat(CsvUtil.textField("-2")).isEqualTo("'-2");
+        assertThat(CsvUtil.textField("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+        assertThat(CsvUtil.textField("\tcmd")).isEqualTo("'\tcmd");
+    }
+
+    @Test
+    void leavesOrdinaryTextAlone() {
+        assertThat(CsvUtil.textField(null)).isEmpty();
+        assertThat(CsvUtil.textField("")).isEmpty();
+        assertThat(CsvUtil.textField("Fuel at gate 3 - urgent")).isEqualTo("Fuel at gate 3 - urgent");
+    }
+
+    @Test
+    void readsQuotedFieldsAcrossLines() throws IOException {
+        CsvUtil.RecordReader reader = new CsvUtil.RecordReader(
+                new StringReader("a,\"b,c\",\"d\"\"e\"\r\n\"multi\nline\",x\n"));
+
+        assertThat(reader.readRecord()).containsExactly("a", "b,c", "d\"e");
+        assertThat(reader.getRecordLine()).isEqualTo(1);
+        List<String> second = reader.readRecord();
+        assertThat(second).containsExactly("multi\nline", "x");
+        assertThat(reader.getRecordLine()).isEqualTo(2);
+        assertThat(reader.readRecord()).isNull();
+    }
+}